@@ -1078,7 +1078,15 @@ public class BiometricsController extends BaseController /* implements Initializ
 						InputStream urlStream = bioService.getStream(mdmBioDevice,
 								isFace(currentModality) ? RegistrationConstants.FACE_FULLFACE : currentModality);
 
-						boolean isStreamStarted = urlStream != null && urlStream.read() != -1;
+						boolean isStreamStarted = false;
+						try {
+							isStreamStarted = urlStream != null && urlStream.read() != -1;
+						} finally {
+							if (!isStreamStarted && urlStream != null) {
+								// releases the connection of the stream, which is not shown
+								urlStream.close();
+							}
+						}
 						if (!isStreamStarted) {
 
 							LOGGER.info(LOG_REG_BIOMETRIC_CONTROLLER, APPLICATION_NAME, APPLICATION_ID,
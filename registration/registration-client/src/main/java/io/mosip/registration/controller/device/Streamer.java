@@ -7,7 +7,8 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.stereotype.Component;
 
@@ -16,6 +17,9 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.util.common.BoundedExecutors;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -24,17 +28,12 @@ public class Streamer {
 
 	private static final Logger LOGGER = AppConfig.getLogger(Streamer.class);
 
-	private InputStream urlStream;
+	private volatile InputStream urlStream;
 
 	public void setUrlStream(InputStream inputStream) {
 
 		if (urlStream != null) {
-			try {
-				urlStream.close();
-			} catch (IOException exception) {
-				LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-			}
+			closeStream(urlStream);
 			urlStream = null;
 		}
 
@@ -52,13 +51,33 @@ public class Streamer {
 		return urlStream;
 	}
 
-	private boolean isRunning = true;
+	/**
+	 * Closes the stream, which releases its connection to the device service
+	 */
+	private void closeStream(InputStream inputStream) {
+		try {
+			inputStream.close();
+		} catch (IOException exception) {
+			LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+					exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+		}
+	}
 
-	private final String CONTENT_LENGTH = "Content-Length:";
+	private boolean isRunning = true;
 
 	private Thread streamer_thread = null;
 
-	public byte[] imageBytes = null;
+	public volatile byte[] imageBytes = null;
+
+	// Latest frame read from the stream, yet to be decoded
+	private final AtomicReference<byte[]> pendingFrame = new AtomicReference<>();
+
+	// Latest decoded frame, yet to be shown
+	private final AtomicReference<Image> decodedFrame = new AtomicReference<>();
+
+	private ExecutorService frameDecoder;
+
+	private AnimationTimer frameDisplay;
 
 	// Last streaming image
 	private static Image streamImage;
@@ -95,31 +114,41 @@ public class Streamer {
 		LOGGER.info(STREAMER, APPLICATION_NAME, APPLICATION_ID,
 				"Streamer Thread initiation started for : " + System.currentTimeMillis());
 
+		startFrameDisplay(streamImage, scanImage);
+
 		streamer_thread = new Thread(new Runnable() {
 
 			public void run() {
 
 				setUrlStream(inputStream);
 
-				while (null != urlStream) {
-					try {
-						imageBytes = retrieveNextImage(urlStream);
-						ByteArrayInputStream imageStream = new ByteArrayInputStream(imageBytes);
-						Image img = new Image(imageStream);
-						streamImage.setImage(img);
-						if (null != scanImage) {
-							// scanImage.setImage(img);
-
-							setImageView(scanImage);
-							setStreamImage(img);
+				MjpegFrameReader frameReader = new MjpegFrameReader(inputStream);
+				try {
+					while (inputStream != null && inputStream == urlStream) {
+						byte[] frame = frameReader.nextFrame();
+						if (frame == null) {
+							throw new IOException("Stream ended");
+						}
+						/* Only the latest frame is decoded, the stale frames are dropped */
+						if (pendingFrame.getAndSet(frame) == null) {
+							getFrameDecoder().execute(Streamer.this::decodePendingFrames);
 						}
-					} catch (RuntimeException | IOException exception) {
+					}
+				} catch (RuntimeException | IOException exception) {
 
-						LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME,
-								RegistrationConstants.APPLICATION_ID,
-								exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-						urlStream = null;
+					LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME,
+							RegistrationConstants.APPLICATION_ID,
+							exception.getMessage() + ExceptionUtils.getStackTrace(exception));
 
+				} finally {
+					/* The stream is closed on any exit, so that its connection is released */
+					if (inputStream != null) {
+						closeStream(inputStream);
+					}
+					synchronized (Streamer.this) {
+						if (inputStream == urlStream) {
+							urlStream = null;
+						}
 					}
 				}
 			}
@@ -133,6 +162,70 @@ public class Streamer {
 
 	}
 
+	/**
+	 * Decodes the latest pending frame off the JavaFX thread, the frame is shown
+	 * on the next pulse of the JavaFX thread
+	 */
+	private void decodePendingFrames() {
+		byte[] frame;
+		while ((frame = pendingFrame.getAndSet(null)) != null) {
+			try {
+				Image image = new Image(new ByteArrayInputStream(frame));
+				imageBytes = frame;
+				decodedFrame.set(image);
+			} catch (RuntimeException exception) {
+				LOGGER.error(STREAMER, APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+			}
+		}
+	}
+
+	private synchronized ExecutorService getFrameDecoder() {
+		if (frameDecoder == null) {
+			frameDecoder = BoundedExecutors.newDaemonExecutor("STREAMER_DECODER", 1);
+		}
+		return frameDecoder;
+	}
+
+	/**
+	 * Shows the latest decoded frame once per refresh of the display
+	 */
+	private void startFrameDisplay(ImageView streamImage, ImageView scanImage) {
+		pendingFrame.set(null);
+		decodedFrame.set(null);
+
+		AnimationTimer previousDisplay = frameDisplay;
+		frameDisplay = new AnimationTimer() {
+
+			@Override
+			public void handle(long now) {
+				Image image = decodedFrame.getAndSet(null);
+				if (image != null) {
+					streamImage.setImage(image);
+					if (null != scanImage) {
+						setImageView(scanImage);
+						setStreamImage(image);
+					}
+				}
+			}
+		};
+		AnimationTimer display = frameDisplay;
+		Platform.runLater(() -> {
+			if (previousDisplay != null) {
+				previousDisplay.stop();
+			}
+			display.start();
+		});
+	}
+
+	private void stopFrameDisplay() {
+		AnimationTimer display = frameDisplay;
+		frameDisplay = null;
+		if (display != null) {
+			Platform.runLater(display::stop);
+		}
+	}
+
 	/**
 	 * Using the urlStream get the next JPEG image as a byte[]
 	 *
@@ -140,55 +233,107 @@ public class Streamer {
 	 * @throws IOException
 	 */
 	public byte[] retrieveNextImage(InputStream urlStream) throws IOException {
+		return new MjpegFrameReader(urlStream).nextFrame();
+	}
+
+	/**
+	 * Reads the JPEG frames of a multipart MJPEG stream, the stream is read in
+	 * blocks into a reusable buffer
+	 */
+	private static final class MjpegFrameReader {
+
+		private static final int BUFFER_SIZE = 64 * 1024;
+
+		private static final int JPEG_START = 0xFF;
+
+		private static final String CONTENT_LENGTH_HEADER = "content-length:";
+
+		private final InputStream inputStream;
+
+		private final byte[] buffer = new byte[BUFFER_SIZE];
 
-		int currByte = -1;
+		private final StringBuilder line = new StringBuilder(128);
 
-		boolean captureContentLength = false;
-		StringWriter contentLengthStringWriter = new StringWriter(128);
-		StringWriter headerWriter = new StringWriter(128);
+		private int position;
 
-		int contentLength = 0;
+		private int limit;
 
-		while ((currByte = urlStream.read()) > -1) {
-			if (captureContentLength) {
-				if (currByte == 10 || currByte == 13) {
-					contentLength = Integer.parseInt(contentLengthStringWriter.toString().replace(" ", ""));
-					break;
+		private MjpegFrameReader(InputStream inputStream) {
+			this.inputStream = inputStream;
+		}
+
+		/**
+		 * @return the next JPEG frame, or null when the stream has ended
+		 */
+		private byte[] nextFrame() throws IOException {
+			int contentLength = -1;
+
+			/* part headers, up to the Content-Length header */
+			while (contentLength < 0) {
+				if (!readLine()) {
+					return null;
+				}
+				if (line.length() > CONTENT_LENGTH_HEADER.length() && CONTENT_LENGTH_HEADER
+						.equalsIgnoreCase(line.substring(0, CONTENT_LENGTH_HEADER.length()))) {
+					contentLength = Integer
+							.parseInt(line.substring(CONTENT_LENGTH_HEADER.length()).replace(" ", "").trim());
 				}
-				contentLengthStringWriter.write(currByte);
-
-			} else {
-				headerWriter.write(currByte);
-				String tempString = headerWriter.toString();
-				int indexOf = tempString.indexOf(CONTENT_LENGTH);
-				if (indexOf > 0) {
-					captureContentLength = true;
+			}
+
+			/* skip the rest of the headers up to the start of the jpeg image */
+			int currByte;
+			while ((currByte = read()) != JPEG_START) {
+				if (currByte < 0) {
+					return null;
 				}
 			}
+
+			byte[] imageBytes = new byte[Math.max(1, contentLength)];
+			// since we ate the original 255 , shove it back in
+			imageBytes[0] = (byte) JPEG_START;
+			return readFully(imageBytes, 1) ? imageBytes : null;
 		}
 
-		// 255 indicates the start of the jpeg image
-		while (urlStream.read() != 255) {
+		private boolean readLine() throws IOException {
+			line.setLength(0);
+			int currByte;
+			while ((currByte = read()) >= 0) {
+				if (currByte == '\n' || currByte == '\r') {
+					if (line.length() > 0) {
+						return true;
+					}
+				} else if (line.length() < BUFFER_SIZE) {
+					line.append((char) currByte);
+				}
+			}
+			return line.length() > 0;
+		}
 
+		private int read() throws IOException {
+			if (position == limit && !fill()) {
+				return -1;
+			}
+			return buffer[position++] & 0xFF;
 		}
 
-		// && urlStream.read()!=-1
-		// if(urlStream.read()==-1) {
-		// throw new RuntimeException("No stream available");
-		// }
-
-		// rest is the buffer
-		byte[] imageBytes = new byte[contentLength + 1];
-		// since we ate the original 255 , shove it back in
-		imageBytes[0] = (byte) 255;
-		int offset = 1;
-		int numRead = 0;
-		while (offset < imageBytes.length
-				&& (numRead = urlStream.read(imageBytes, offset, imageBytes.length - offset)) >= 0) {
-			offset += numRead;
+		private boolean readFully(byte[] bytes, int offset) throws IOException {
+			int buffered = Math.min(limit - position, bytes.length - offset);
+			System.arraycopy(buffer, position, bytes, offset, buffered);
+			position += buffered;
+			offset += buffered;
+
+			int numRead;
+			while (offset < bytes.length && (numRead = inputStream.read(bytes, offset, bytes.length - offset)) >= 0) {
+				offset += numRead;
+			}
+			return offset == bytes.length;
 		}
 
-		return imageBytes;
+		private boolean fill() throws IOException {
+			position = 0;
+			limit = Math.max(0, inputStream.read(buffer, 0, buffer.length));
+			return limit > 0;
+		}
 	}
 
 	/**
@@ -202,6 +347,7 @@ public class Streamer {
 		if (streamer_thread != null) {
 			try {
 				isRunning = false;
+				stopFrameDisplay();
 				if (urlStream != null)
 					urlStream.close();
 				streamer_thread = null;
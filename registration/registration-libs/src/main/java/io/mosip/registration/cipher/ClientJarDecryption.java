@@ -1,22 +1,35 @@
 package io.mosip.registration.cipher;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.security.InvalidAlgorithmParameterException;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
@@ -25,6 +38,7 @@ import javax.xml.parsers.ParserConfigurationException;
 
 import ch.qos.logback.core.util.SystemInfo;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.xml.sax.SAXException;
 
 import io.mosip.kernel.core.crypto.exception.InvalidDataException;
@@ -35,6 +49,7 @@ import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.registration.config.SoftwareInstallationHandler;
 import io.mosip.registration.constants.LoggerConstants;
 import io.mosip.registration.util.LoggerFactory;
+import io.mosip.registration.util.ProtectedFolderUtil;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -75,8 +90,8 @@ public class ClientJarDecryption extends Application {
 	private static final String IS_KEY_ENCRYPTED = "Y";
 	private static final String MOSIP_CLIENT_TPM_AVAILABILITY = "mosip.reg.client.tpm.availability";
 
-	private static String WIN_CMD_TEMPLATE = "%s %s %s -Dfile.encoding=UTF-8 -cp %s/*;/* io.mosip.registration.controller.Initialization %s %s";
-	private static String LIN_CMD_TEMPLATE = "%s %s %s -Dfile.encoding=UTF-8 -cp %s/*:/* io.mosip.registration.controller.Initialization %s %s";
+	private static String WIN_CMD_TEMPLATE = "%s %s %s -Dfile.encoding=UTF-8 -cp %s/*;%s/* io.mosip.registration.controller.Initialization %s %s";
+	private static String LIN_CMD_TEMPLATE = "%s %s %s -Dfile.encoding=UTF-8 -cp %s/*:%s/* io.mosip.registration.controller.Initialization %s %s";
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ClientJarDecryption.class);
 
@@ -85,6 +100,18 @@ public class ClientJarDecryption extends Application {
 
 	static String tempPath;
 
+	private static final String JAR_CACHE_ENABLED = "mosip.reg.launcher.jar.cache.enabled";
+	private static final String LAUNCHER_FOLDER = "mosip.reg.launcher.folder";
+	private static final String CHECKSUM_ALGORITHM = "SHA-256";
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final String JAR_EXTENSION = ".jar";
+	private static final String MAC_EXTENSION = ".mac";
+	private static final String PART_EXTENSION = ".part";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private boolean jarCacheEnabled;
+	private File launcherFolder;
+
 	private String IS_TPM_AVAILABLE = "Checking TPM Avaialbility";
 	private String ENCRYPT_PROPERTIES = "Encrypting Properties";
 	private String DB_CHECK = "Checking for DB Availability";
@@ -298,32 +325,182 @@ public class ClientJarDecryption extends Application {
 	}
 
 	private void decryptMosipJars(Properties properties) throws IOException {
-		// ClientJarDecryption aesDecrypt = new ClientJarDecryption();
-		File encryptedClientJar = new File(binFolder + MOSIP_CLIENT);
-		File encryptedServicesJar = new File(binFolder + MOSIP_SERVICES);
-		tempPath = FileUtils.getTempDirectoryPath();
-		tempPath = tempPath + SLASH + UUID.randomUUID();
+		jarCacheEnabled = Boolean.parseBoolean(getLauncherProperty(JAR_CACHE_ENABLED, properties, "false"));
+		launcherFolder = new File(getLauncherProperty(LAUNCHER_FOLDER, properties,
+				FileUtils.getUserDirectoryPath() + SLASH + ".mosipreg" + SLASH + "launcher"));
+
+		File jarFolder = jarCacheEnabled ? new File(launcherFolder, "jars")
+				: new File(FileUtils.getTempDirectoryPath() + SLASH + UUID.randomUUID());
+		ProtectedFolderUtil.createProtectedFolder(jarFolder);
+		tempPath = jarFolder.getAbsolutePath();
 
 		byte[] decryptedKey = getValue(MOSIP_REGISTRATION_APP_KEY, properties, isTPMAvailable(properties));
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-client");
-		byte[] decryptedRegFileBytes = decrypt(FileUtils.readFileToByteArray(encryptedClientJar), decryptedKey);
-		String clientJar = tempPath + SLASH + UUID.randomUUID();
 
-		// Decrypt Client Jar
-		FileUtils.writeByteArrayToFile(new File(clientJar + ".jar"), decryptedRegFileBytes);
+		Set<String> jarNames = new HashSet<>();
+		jarNames.add(getDecryptedJar(new File(binFolder + MOSIP_CLIENT), jarFolder, decryptedKey));
+		jarNames.add(getDecryptedJar(new File(binFolder + MOSIP_SERVICES), jarFolder, decryptedKey));
+
+		if (jarCacheEnabled) {
+			// jars of the previous versions must not stay in the class path
+			for (File file : jarFolder.listFiles()) {
+				if (!jarNames.contains(FilenameUtils.getBaseName(file.getName()))) {
+					FileUtils.deleteQuietly(file);
+				}
+			}
+		}
 
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-services");
+				LoggerConstants.APPLICATION_ID, "Decrypting mosip jars completed");
+	}
 
-		byte[] decryptedRegServiceBytes = decrypt(FileUtils.readFileToByteArray(encryptedServicesJar), decryptedKey);
+	/**
+	 * Decrypts the jar into the jar folder, unless the jar folder already has a
+	 * verified decrypted copy of the same encrypted jar
+	 * 
+	 * @return name of the decrypted jar, without extension
+	 */
+	private String getDecryptedJar(File encryptedJar, File jarFolder, byte[] decryptedKey) throws IOException {
+		String jarName = jarCacheEnabled ? getCheckSum(encryptedJar) : UUID.randomUUID().toString();
+		File decryptedJar = new File(jarFolder, jarName + JAR_EXTENSION);
+		File macFile = new File(jarFolder, jarName + MAC_EXTENSION);
 
-		// Decrypt Services Jar
-		FileUtils.writeByteArrayToFile(new File(tempPath + SLASH + UUID.randomUUID() + ".jar"),
-				decryptedRegServiceBytes);
+		if (jarCacheEnabled && decryptedJar.exists() && macFile.exists()) {
+			if (MessageDigest.isEqual(FileUtils.readFileToByteArray(macFile), getMac(decryptedJar, decryptedKey))) {
+				LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+						LoggerConstants.APPLICATION_ID, "Using cached " + encryptedJar.getName());
+				return jarName;
+			}
+			LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+					LoggerConstants.APPLICATION_ID, "Cached " + encryptedJar.getName() + " failed verification");
+		}
 
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip jars completed");
+				LoggerConstants.APPLICATION_ID, "Decrypting " + encryptedJar.getName());
+
+		File partFile = new File(jarFolder, jarName + PART_EXTENSION);
+		byte[] mac = decrypt(encryptedJar, partFile, decryptedKey);
+		Files.move(partFile.toPath(), decryptedJar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		if (jarCacheEnabled) {
+			FileUtils.writeByteArrayToFile(macFile, mac);
+		}
+		return jarName;
+	}
+
+	/**
+	 * Decrypts the file in blocks, the last block of the encrypted file is the IV
+	 * 
+	 * @return mac of the decrypted file
+	 */
+	private byte[] decrypt(File encryptedFile, File decryptedFile, byte[] decryptedKey) throws IOException {
+		Cipher cipher = getCipher();
+		long dataLength = encryptedFile.length() - cipher.getBlockSize();
+		if (dataLength <= 0) {
+			throw new IOException("Invalid encrypted file " + encryptedFile.getName());
+		}
+
+		byte[] randomIV = new byte[cipher.getBlockSize()];
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(encryptedFile, "r")) {
+			randomAccessFile.seek(dataLength);
+			randomAccessFile.readFully(randomIV);
+		}
+		initCipher(cipher, new SecretKeySpec(decryptedKey, AES_ALGORITHM), randomIV, null);
+		Mac mac = getMacInstance(decryptedKey);
+
+		try (InputStream inputStream = new FileInputStream(encryptedFile);
+				OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(decryptedFile))) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long remaining = dataLength;
+			while (remaining > 0) {
+				int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					throw new EOFException(encryptedFile.getName());
+				}
+				remaining -= read;
+				write(cipher.update(buffer, 0, read), outputStream, mac);
+			}
+			write(doFinal(new byte[0], cipher), outputStream, mac);
+		}
+		return mac.doFinal();
+	}
+
+	private static void write(byte[] data, OutputStream outputStream, Mac mac) throws IOException {
+		if (data != null && data.length > 0) {
+			outputStream.write(data);
+			mac.update(data);
+		}
+	}
+
+	private static byte[] getMac(File file, byte[] decryptedKey) throws IOException {
+		Mac mac = getMacInstance(decryptedKey);
+		try (InputStream inputStream = new FileInputStream(file)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				mac.update(buffer, 0, read);
+			}
+		}
+		return mac.doFinal();
+	}
+
+	private static Mac getMacInstance(byte[] decryptedKey) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(decryptedKey, HMAC_ALGORITHM));
+			return mac;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException("0000", "MOSIP_INVALID_KEY_EXCEPTION", e);
+		} catch (java.security.NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new InvalidKeyException("0000", "MOSIP_NO_SUCH_ALGORITHM_EXCEPTION", noSuchAlgorithmException);
+		}
+	}
+
+	private static String getCheckSum(File file) throws IOException {
+		try (InputStream inputStream = new FileInputStream(file)) {
+			MessageDigest messageDigest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				messageDigest.update(buffer, 0, read);
+			}
+			return String.format("%064x", new BigInteger(1, messageDigest.digest()));
+		} catch (java.security.NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new InvalidKeyException("0000", "MOSIP_NO_SUCH_ALGORITHM_EXCEPTION", noSuchAlgorithmException);
+		}
+	}
+
+	/**
+	 * The jars of lib folder are replaced by the running client on update. On
+	 * windows the jars in use cannot be replaced, so the client uses a copy of lib
+	 * folder, in which only the changed jars are copied on launch
+	 * 
+	 * @return the lib folder of the client
+	 */
+	private String getLibFolder() throws IOException {
+		File libFolderFile = new File(libFolder);
+		if (!isWindows()) {
+			return libFolderFile.getAbsolutePath();
+		}
+
+		File libCopy = new File(launcherFolder, "lib");
+		Files.createDirectories(libCopy.toPath());
+		Set<String> libJars = new HashSet<>();
+		for (File jar : libFolderFile.listFiles()) {
+			libJars.add(jar.getName());
+			File jarCopy = new File(libCopy, jar.getName());
+			if (jarCopy.length() != jar.length() || jarCopy.lastModified() != jar.lastModified()) {
+				FileUtils.copyFile(jar, jarCopy, true);
+			}
+		}
+		for (File jarCopy : libCopy.listFiles()) {
+			if (!libJars.contains(jarCopy.getName())) {
+				FileUtils.forceDelete(jarCopy);
+			}
+		}
+		return libCopy.getAbsolutePath();
+	}
+
+	private String getLauncherProperty(String key, Properties properties, String defaultValue) {
+		return System.getProperty(key, properties.getProperty(key, defaultValue));
 	}
 
 	private void cleanup() {
@@ -340,14 +517,14 @@ public class ClientJarDecryption extends Application {
 	}
 
 	private void launchRegClient(Properties properties) throws IOException, InterruptedException {
-		FileUtils.copyDirectory(new File("lib"), new File(tempPath));
+		String clientLibFolder = getLibFolder();
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID, "Preparing command to launch the reg-client");
 		String jrePath = new File(System.getProperty("user.dir")) + SLASH + "jre/jre/bin/java";
 
 		Process process = Runtime.getRuntime()
 				.exec(String.format(getCommandTemplate(), jrePath, System.getProperty("mosip.max.mem", MAX_HEAP_SIZE),
-						System.getProperty("mosip.min.mem", MIN_HEAP_SIZE), tempPath,
+						System.getProperty("mosip.min.mem", MIN_HEAP_SIZE), tempPath, clientLibFolder,
 						properties.getProperty("mosip.client.upgrade.server.url"),
 						properties.getProperty(MOSIP_CLIENT_TPM_AVAILABILITY)));
 
@@ -388,7 +565,9 @@ public class ClientJarDecryption extends Application {
 				"Started Destroying proccess of reg-client and force deleting the decrypted jars");
 
 		process.destroyForcibly();
-		FileUtils.forceDelete(new File(tempPath));
+		if (!jarCacheEnabled) {
+			FileUtils.forceDelete(new File(tempPath));
+		}
 
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID,
@@ -399,13 +578,16 @@ public class ClientJarDecryption extends Application {
 	}
 
 	private String getCommandTemplate() {
-		String osName = System.getProperty("os.name");
-		if (osName.toLowerCase().contains("windows"))
+		if (isWindows())
 			return WIN_CMD_TEMPLATE;
 		else
 			return LIN_CMD_TEMPLATE;
 	}
 
+	private boolean isWindows() {
+		return System.getProperty("os.name").toLowerCase().contains("windows");
+	}
+
 	private boolean isTPMAvailable(Properties properties) {
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID, "Started tpm availability check");
@@ -488,25 +670,21 @@ public class ClientJarDecryption extends Application {
 		//CryptoUtils.verifyData(data);
 		byte[] output = null;
 		try {
-			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+			Cipher cipher = getCipher();
 
 			byte[] randomIV = Arrays.copyOfRange(data, data.length - cipher.getBlockSize(), data.length);
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES_ALGORITHM);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, randomIV);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
-			if (aad != null && aad.length != 0) {
-				cipher.updateAAD(aad);
-			}
+			initCipher(cipher, new SecretKeySpec(key.getEncoded(), AES_ALGORITHM), randomIV, aad);
 			output = doFinal(Arrays.copyOf(data, data.length - cipher.getBlockSize()), cipher);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException("0000",
-					"MOSIP_INVALID_KEY_EXCEPTION", e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidKeyException("0000",
-					"MOSIP_INVALID_PARAM_SPEC_EXCEPTION", e);
 		} catch (ArrayIndexOutOfBoundsException e) {
 			throw new InvalidDataException("0000",
 					"MOSIP_INVALID_DATA_LENGTH_EXCEPTION", e);
+		}
+		return output;
+	}
+
+	private static Cipher getCipher() {
+		try {
+			return Cipher.getInstance("AES/GCM/NoPadding");
 		} catch (java.security.NoSuchAlgorithmException noSuchAlgorithmException) {
 			throw new InvalidKeyException("0000",
 					"MOSIP_NO_SUCH_ALGORITHM_EXCEPTION",
@@ -514,9 +692,23 @@ public class ClientJarDecryption extends Application {
 		} catch (NoSuchPaddingException noSuchPaddingException) {
 			throw new InvalidKeyException("No Such Padding Exception", "No Such Padding Exception",
 					noSuchPaddingException);
+		}
+	}
 
+	private static void initCipher(Cipher cipher, SecretKeySpec keySpec, byte[] randomIV, byte[] aad) {
+		try {
+			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, randomIV);
+			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException("0000",
+					"MOSIP_INVALID_KEY_EXCEPTION", e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException("0000",
+					"MOSIP_INVALID_PARAM_SPEC_EXCEPTION", e);
 		}
-		return output;
 	}
 
 	private static byte[] doFinal(byte[] data, Cipher cipher) {
@@ -9,19 +9,19 @@ import java.net.NoRouteToHostException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Files;
-import java.security.NoSuchAlgorithmException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
-import io.mosip.kernel.core.util.HMACUtils2;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -50,6 +50,13 @@ public class SoftwareInstallationHandler {
 
 			latestVersion = properties.getProperty("mosip.reg.version");
 
+			checkSumVerifier = new JarCheckSumVerifier(
+					Boolean.parseBoolean(System.getProperty(JarCheckSumVerifier.FULL_CHECK,
+							properties.getProperty(JarCheckSumVerifier.FULL_CHECK, "false"))),
+					new File(System.getProperty(JarCheckSumVerifier.LAUNCHER_FOLDER,
+							properties.getProperty(JarCheckSumVerifier.LAUNCHER_FOLDER, System.getProperty("user.home")
+									+ SLASH + ".mosipreg" + SLASH + "launcher"))));
+
 			LOGGER.info(LoggerConstants.SOFTWARE_INSTALLATION_HANDLER, LoggerConstants.APPLICATION_NAME,
 					LoggerConstants.APPLICATION_ID, "Loading mosip-application.properties completed");
 
@@ -62,6 +69,8 @@ public class SoftwareInstallationHandler {
 
 	private static String SLASH = "/";
 
+	private static final int CHECK_SUM_THREADS = 4;
+
 	private static String manifestFile = "MANIFEST.MF";
 
 	private  String serverRegClientURL;
@@ -79,6 +88,8 @@ public class SoftwareInstallationHandler {
 
 	private String mosip = "mosip";
 
+	private JarCheckSumVerifier checkSumVerifier;
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(SoftwareInstallationHandler.class);
 
 	private String getLatestVersion() {
@@ -226,6 +237,7 @@ public class SoftwareInstallationHandler {
 					LoggerConstants.APPLICATION_ID, exception.getMessage() + ExceptionUtils.getStackTrace(exception));
 
 		}
+		checkSumVerifier.save();
 	}
 
 	private InputStream getInputStreamOfJar(String version, String jarName) throws IOException {
@@ -338,18 +350,36 @@ public class SoftwareInstallationHandler {
 	}
 
 	private boolean checkLocalJars(List<String> jarList) {
-		for (String jarFile : jarList) {
+		ExecutorService executorService = Executors
+				.newFixedThreadPool(Math.min(CHECK_SUM_THREADS, Runtime.getRuntime().availableProcessors()));
+		try {
+			List<Future<Boolean>> checkedJars = new LinkedList<>();
+			for (String jarFile : jarList) {
 
-			File jar = jarFile.contains(mosip) ? new File(binFolder + SLASH + jarFile)
-					: new File(libFolder + SLASH + jarFile);
+				File jar = jarFile.contains(mosip) ? new File(binFolder + SLASH + jarFile)
+						: new File(libFolder + SLASH + jarFile);
 
-			if (!(jar.exists()) || !isCheckSumValid(jar, localManifest)) {
-				return false;
+				checkedJars.add(executorService.submit(() -> jar.exists() && isCheckSumValid(jar, localManifest)));
 			}
 
-		}
+			for (Future<Boolean> checkedJar : checkedJars) {
+				if (!checkedJar.get()) {
+					return false;
+				}
+			}
+			return true;
 
-		return true;
+		} catch (InterruptedException | ExecutionException exception) {
+			LOGGER.error(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+					LoggerConstants.APPLICATION_ID, exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+			if (exception instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		} finally {
+			executorService.shutdownNow();
+			checkSumVerifier.save();
+		}
 	}
 
 	private boolean isCheckSumValid(File jarFile, Manifest manifest) {
@@ -357,15 +387,13 @@ public class SoftwareInstallationHandler {
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID, "Checking check sum for : " + jarFile.getName());
 
-		String checkSum;
 		try {
-			checkSum = HMACUtils2.digestAsPlainText(Files.readAllBytes(jarFile.toPath()));
 			String manifestCheckSum = (String) manifest.getEntries().get(jarFile.getName())
 					.get(Attributes.Name.CONTENT_TYPE);
 
-			return manifestCheckSum.equals(checkSum);
+			return checkSumVerifier.isCheckSumValid(jarFile, manifestCheckSum);
 
-		} catch (IOException | NoSuchAlgorithmException ioException) {
+		} catch (IOException ioException) {
 			
 			LOGGER.error(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 					LoggerConstants.APPLICATION_ID,
@@ -0,0 +1,48 @@
+package io.mosip.registration.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Folders of the launcher, which are readable only by the current user
+ *
+ * @since 1.1.4
+ */
+public final class ProtectedFolderUtil {
+
+	private ProtectedFolderUtil() {
+	}
+
+	/**
+	 * @return true if the file permissions are read and set as POSIX permissions
+	 */
+	public static boolean isPosix() {
+		return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	}
+
+	/**
+	 * Creates the folder readable only by the current user
+	 *
+	 * @param folder
+	 *            the folder to be created, the permissions of an existing folder
+	 *            are reset
+	 * @throws IOException
+	 *             when the folder cannot be created
+	 */
+	public static void createProtectedFolder(File folder) throws IOException {
+		Files.createDirectories(folder.toPath());
+		if (isPosix()) {
+			Files.setPosixFilePermissions(folder.toPath(), PosixFilePermissions.fromString("rwx------"));
+		} else {
+			folder.setReadable(false, false);
+			folder.setReadable(true, true);
+			folder.setWritable(false, false);
+			folder.setWritable(true, true);
+			folder.setExecutable(false, false);
+			folder.setExecutable(true, true);
+		}
+	}
+}
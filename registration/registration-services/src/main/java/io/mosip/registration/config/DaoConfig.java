@@ -4,9 +4,11 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
 
 import javax.sql.DataSource;
@@ -17,6 +19,7 @@ import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import lombok.SneakyThrows;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.PropertyPlaceholderConfigurer;
@@ -63,6 +66,30 @@ public class DaoConfig extends HibernateDaoConfig {
 	private static final String URL = "jdbc:derby:%s;bootPassword=%s";
 	private static final String SHUTDOWN_URL = "jdbc:derby:;shutdown=true;deregister=false;";
 	private static final String SCHEMA_NAME = "REG";
+	private static final String SET_SCHEMA_SQL = "SET SCHEMA " + SCHEMA_NAME;
+
+	private static final String DATASOURCE_POOLED = "mosip.registration.db.pool.enabled";
+	private static final String POOL_MAX_TOTAL = "mosip.registration.db.pool.max-total";
+	private static final String POOL_MAX_IDLE = "mosip.registration.db.pool.max-idle";
+	private static final String POOL_MIN_IDLE = "mosip.registration.db.pool.min-idle";
+	private static final String POOL_MAX_WAIT_MILLIS = "mosip.registration.db.pool.max-wait-millis";
+	private static final String POOL_MAX_OPEN_STATEMENTS = "mosip.registration.db.pool.max-open-prepared-statements";
+	private static final String DERBY_PAGE_CACHE_SIZE = "derby.storage.pageCacheSize";
+	private static final String HIBERNATE_JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+	private static final String HIBERNATE_ORDER_INSERTS = "hibernate.order_inserts";
+	private static final String HIBERNATE_ORDER_UPDATES = "hibernate.order_updates";
+
+	/** columns added after 1.1.4 was released, by table and column name */
+	private static final String[][] ADDED_COLUMNS = {
+			{ "AUDIT_LOG_CONTROL", "AUDIT_LOG_TO_UUID",
+					"ALTER TABLE \"REG\".\"AUDIT_LOG_CONTROL\" ADD COLUMN \"AUDIT_LOG_TO_UUID\" VARCHAR(64)" } };
+
+	/** indexes of the audit table added after 1.1.4 was released, by index name */
+	private static final String[][] ADDED_AUDIT_INDEXES = {
+			{ "IDX_AUDLOG_LOG_DTIMES",
+					"CREATE INDEX \"AUDIT\".\"IDX_AUDLOG_LOG_DTIMES\" ON \"AUDIT\".\"APP_AUDIT_LOG\" (\"LOG_DTIMES\", \"LOG_ID\")" },
+			{ "IDX_AUDLOG_REF_ID",
+					"CREATE INDEX \"AUDIT\".\"IDX_AUDLOG_REF_ID\" ON \"AUDIT\".\"APP_AUDIT_LOG\" (\"REF_ID\")" } };
 
 	private static Properties keys;
 	private static JdbcTemplate jdbcTemplate;
@@ -77,6 +104,8 @@ public class DaoConfig extends HibernateDaoConfig {
 	@Autowired
 	private ConfigurableEnvironment environment;
 
+	private DataSource dataSource;
+
 	private static boolean isPPCUpdated = false;
 	private static PropertySourcesPlaceholderConfigurer ppc = null;
 
@@ -107,8 +136,11 @@ public class DaoConfig extends HibernateDaoConfig {
 	@SneakyThrows
 	@Override
 	@Bean(name = "dataSource")
-	public DataSource dataSource() {
-		return setupDataSource();
+	public synchronized DataSource dataSource() {
+		if (dataSource == null) {
+			dataSource = setupDataSource();
+		}
+		return dataSource;
 	}
 
 	/**
@@ -171,9 +203,9 @@ public class DaoConfig extends HibernateDaoConfig {
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_DIALECT,
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_DIALECT, HibernatePersistenceConstant.MY_SQL5_DIALECT));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_SHOW_SQL,
-				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_SHOW_SQL, HibernatePersistenceConstant.TRUE));
+				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_SHOW_SQL, HibernatePersistenceConstant.FALSE));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_FORMAT_SQL,
-				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_FORMAT_SQL, HibernatePersistenceConstant.TRUE));
+				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_FORMAT_SQL, HibernatePersistenceConstant.FALSE));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_CONNECTION_CHAR_SET,
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_CONNECTION_CHAR_SET, HibernatePersistenceConstant.UTF8));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE,
@@ -188,17 +220,99 @@ public class DaoConfig extends HibernateDaoConfig {
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_NON_CONTEXTUAL_CREATION, HibernatePersistenceConstant.FALSE));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_CURRENT_SESSION_CONTEXT,
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_CURRENT_SESSION_CONTEXT, HibernatePersistenceConstant.JTA));
+		jpaProperties.put(HIBERNATE_JDBC_BATCH_SIZE, keys.getProperty(HIBERNATE_JDBC_BATCH_SIZE, "50"));
+		jpaProperties.put(HIBERNATE_ORDER_INSERTS,
+				keys.getProperty(HIBERNATE_ORDER_INSERTS, HibernatePersistenceConstant.TRUE));
+		jpaProperties.put(HIBERNATE_ORDER_UPDATES,
+				keys.getProperty(HIBERNATE_ORDER_UPDATES, HibernatePersistenceConstant.TRUE));
 		return jpaProperties;
 	}
 
-	private DriverManagerDataSource setupDataSource() throws Exception {
+	private DataSource setupDataSource() throws Exception {
 		LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID, "****** SETTING UP DATASOURCE *******");
+		setupDerbyProperties();
 		createDatabase(dbPath);
-		DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource();
-		driverManagerDataSource.setDriverClassName(DRIVER_CLASS_NAME);
-		driverManagerDataSource.setSchema(SCHEMA_NAME);
-		driverManagerDataSource.setUrl(String.format(URL, dbPath, getDBSecret()));
-		return driverManagerDataSource;
+
+		DataSource registrationDataSource;
+		if (!Boolean.parseBoolean(keys.getProperty(DATASOURCE_POOLED, HibernatePersistenceConstant.TRUE))) {
+			DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource();
+			driverManagerDataSource.setDriverClassName(DRIVER_CLASS_NAME);
+			driverManagerDataSource.setSchema(SCHEMA_NAME);
+			driverManagerDataSource.setUrl(String.format(URL, dbPath, getDBSecret()));
+			registrationDataSource = driverManagerDataSource;
+		} else {
+			registrationDataSource = setupPooledDataSource();
+		}
+		upgradeSchema(registrationDataSource);
+		return registrationDataSource;
+	}
+
+	/**
+	 * Adds the columns and indexes, which are missing in a DB created before they
+	 * were introduced. The upgrade scripts of a version run only when the station
+	 * moves to that version, so the stations already on it are upgraded here.
+	 */
+	private static void upgradeSchema(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			DatabaseMetaData metaData = connection.getMetaData();
+			for (String[] column : ADDED_COLUMNS) {
+				try (ResultSet columns = metaData.getColumns(null, SCHEMA_NAME, column[0], column[1])) {
+					if (columns.next()) {
+						continue;
+					}
+				}
+				statement.execute(column[2]);
+				LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID,
+						"Column added : " + column[0] + "." + column[1]);
+			}
+
+			Set<String> auditIndexes = new HashSet<>();
+			try (ResultSet indexes = metaData.getIndexInfo(null, "AUDIT", "APP_AUDIT_LOG", false, true)) {
+				while (indexes.next()) {
+					auditIndexes.add(indexes.getString("INDEX_NAME"));
+				}
+			}
+			for (String[] index : ADDED_AUDIT_INDEXES) {
+				if (!auditIndexes.contains(index[0])) {
+					statement.execute(index[1]);
+					LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID, "Index added : " + index[0]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Pooled datasource, which keeps the embedded Derby connections open along
+	 * with their prepared statements instead of opening a new connection for
+	 * every transaction
+	 */
+	private BasicDataSource setupPooledDataSource() throws IOException {
+		BasicDataSource basicDataSource = new BasicDataSource();
+		basicDataSource.setDriverClassName(DRIVER_CLASS_NAME);
+		basicDataSource.setUrl(String.format(URL, dbPath, getDBSecret()));
+		basicDataSource.setConnectionInitSqls(Collections.singletonList(SET_SCHEMA_SQL));
+		basicDataSource.setMaxTotal(Integer.parseInt(keys.getProperty(POOL_MAX_TOTAL, "10")));
+		basicDataSource.setMaxIdle(Integer.parseInt(keys.getProperty(POOL_MAX_IDLE, "5")));
+		basicDataSource.setMinIdle(Integer.parseInt(keys.getProperty(POOL_MIN_IDLE, "1")));
+		basicDataSource.setMaxWaitMillis(Long.parseLong(keys.getProperty(POOL_MAX_WAIT_MILLIS, "30000")));
+		basicDataSource.setPoolPreparedStatements(true);
+		basicDataSource.setMaxOpenPreparedStatements(Integer.parseInt(keys.getProperty(POOL_MAX_OPEN_STATEMENTS, "100")));
+
+		LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID,
+				"Pooled datasource created with max connections : " + basicDataSource.getMaxTotal());
+		return basicDataSource;
+	}
+
+	/**
+	 * Derby reads its storage properties only while booting, so they are set
+	 * before the first connection is opened. Values passed as JVM arguments are
+	 * retained.
+	 */
+	private static void setupDerbyProperties() {
+		if (System.getProperty(DERBY_PAGE_CACHE_SIZE) == null) {
+			System.setProperty(DERBY_PAGE_CACHE_SIZE, keys.getProperty(DERBY_PAGE_CACHE_SIZE, "4000"));
+		}
 	}
 
 	private static void shutdownDatabase() {
@@ -490,6 +490,8 @@ public class RegistrationConstants {
 	public static final String SIGN_REQUIRED = "service.signrequired";
 	public static final String AUTH_TYPE = "BASIC";
 	public static final String REQUEST_SIGN_REQUIRED = "service.requestsignrequired";
+	public static final String READ_TIMEOUT = "service.readtimeout";
+	public static final String CONNECT_TIMEOUT = "service.connecttimeout";
 
 	// OTP Related Details
 	public static final String OTP_GENERATOR_SERVICE_NAME = "otp_generator";
@@ -1,6 +1,5 @@
 package io.mosip.registration.context;
 
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -41,8 +40,8 @@ public class ApplicationContext {
 	/** The local messages bundle. */
 	private ResourceBundle localMessagesBundle;
 
-	/** The application map. */
-	private static Map<String, Object> applicationMap = new HashMap<>();
+	/** The application map, thread safe as it is shared by the jobs and UI. */
+	private static Map<String, Object> applicationMap = new GlobalConfig.GlobalConfigMap();
 
 	/** The local language. */
 	private String localLanguage;
@@ -425,7 +424,11 @@ public class ApplicationContext {
 	 */
 	public static int getIntValueFromApplicationMap(String code) {
 
-		return Integer.parseInt((String) applicationMap.get(code));
+		Integer value = GlobalConfig.of(applicationMap).getInteger(code);
+		if (value == null) {
+			throw new NumberFormatException("Invalid integer configuration : " + code);
+		}
+		return value;
 
 	}
 
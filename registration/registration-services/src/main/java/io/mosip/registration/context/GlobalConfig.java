@@ -0,0 +1,243 @@
+package io.mosip.registration.context;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationConstants;
+
+/**
+ * Immutable snapshot of the global configurations of the
+ * {@link ApplicationContext}. The typed values are parsed once per snapshot, a
+ * new snapshot is published when the configurations change.
+ *
+ * @since 1.1.4
+ */
+public final class GlobalConfig {
+
+	private static final Logger LOGGER = AppConfig.getLogger(GlobalConfig.class);
+
+	private static final Pattern NUMBER_PATTERN = Pattern.compile(RegistrationConstants.NUMBER_REGEX);
+
+	private static final Object INVALID_VALUE = new Object();
+
+	private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+	private final Map<String, Object> values;
+
+	private final long version;
+
+	private final Map<String, Object> parsedValues = new ConcurrentHashMap<>();
+
+	/**
+	 * Listener of the changes of the global configurations
+	 */
+	@FunctionalInterface
+	public interface Listener {
+
+		/**
+		 * @param globalConfig
+		 *            the snapshot with the changed configurations
+		 * @param changedKeys
+		 *            keys of the added, changed and removed configurations
+		 */
+		void onChange(GlobalConfig globalConfig, Set<String> changedKeys);
+	}
+
+	private GlobalConfig(Map<String, Object> values, long version) {
+		Map<String, Object> copy = new HashMap<>();
+		values.forEach((key, value) -> {
+			if (key != null && value != null) {
+				copy.put(key, value);
+			}
+		});
+		this.values = Collections.unmodifiableMap(copy);
+		this.version = version;
+	}
+
+	/**
+	 * Snapshot of the configurations, the snapshot of the application map is
+	 * shared until the application map changes
+	 *
+	 * @param configurations
+	 *            the configurations, usually {@link ApplicationContext#map()}
+	 * @return the {@link GlobalConfig}
+	 */
+	public static GlobalConfig of(Map<String, Object> configurations) {
+		if (configurations instanceof GlobalConfigMap) {
+			return ((GlobalConfigMap) configurations).snapshot();
+		}
+		return new GlobalConfig(configurations == null ? Collections.emptyMap() : configurations, 0);
+	}
+
+	public static void addListener(Listener listener) {
+		LISTENERS.add(listener);
+	}
+
+	public static void removeListener(Listener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	public Object get(String key) {
+		return values.get(key);
+	}
+
+	/**
+	 * @return the configuration as String, null if not configured
+	 */
+	public String getString(String key) {
+		Object value = values.get(key);
+		return value == null ? null : String.valueOf(value);
+	}
+
+	/**
+	 * @return the configuration as integer, null if not configured or not an
+	 *         integer
+	 */
+	public Integer getInteger(String key) {
+		return getParsed("int:", key, value -> Integer.valueOf(value.trim()));
+	}
+
+	/**
+	 * @return the configuration as a non negative number, null if not configured
+	 *         or not a number
+	 */
+	public Long getNumber(String key) {
+		return getParsed("number:", key,
+				value -> NUMBER_PATTERN.matcher(value).matches() ? Long.valueOf(value) : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getParsed(String type, String key, Function<String, T> parser) {
+		String value = getString(key);
+		if (value == null) {
+			return null;
+		}
+		Object parsedValue = parsedValues.computeIfAbsent(type + key, parsedKey -> {
+			try {
+				T parsed = parser.apply(value);
+				return parsed == null ? INVALID_VALUE : parsed;
+			} catch (RuntimeException runtimeException) {
+				return INVALID_VALUE;
+			}
+		});
+		return parsedValue == INVALID_VALUE ? null : (T) parsedValue;
+	}
+
+	/**
+	 * Thread safe map of the {@link ApplicationContext}, which publishes a new
+	 * {@link GlobalConfig} snapshot when the map changes. Null values are not
+	 * stored, putting a null value removes the key.
+	 */
+	static final class GlobalConfigMap extends AbstractMap<String, Object> {
+
+		private final Map<String, Object> configurations = new ConcurrentHashMap<>();
+
+		private final AtomicLong version = new AtomicLong();
+
+		private volatile GlobalConfig snapshot;
+
+		GlobalConfig snapshot() {
+			GlobalConfig globalConfig = snapshot;
+			long currentVersion = version.get();
+			if (globalConfig == null || globalConfig.version != currentVersion) {
+				globalConfig = new GlobalConfig(configurations, currentVersion);
+				snapshot = globalConfig;
+			}
+			return globalConfig;
+		}
+
+		@Override
+		public Object get(Object key) {
+			return key == null ? null : configurations.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key != null && configurations.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return configurations.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return Collections.unmodifiableMap(configurations).entrySet();
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object previousValue = value == null ? configurations.remove(key) : configurations.put(key, value);
+			if (!Objects.equals(previousValue, value)) {
+				changed(Collections.singleton(key));
+			}
+			return previousValue;
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ? extends Object> values) {
+			Set<String> changedKeys = new HashSet<>();
+			values.forEach((key, value) -> {
+				Object previousValue = value == null ? configurations.remove(key)
+						: configurations.put(key, value);
+				if (!Objects.equals(previousValue, value)) {
+					changedKeys.add(key);
+				}
+			});
+			changed(changedKeys);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			Object previousValue = key == null ? null : configurations.remove(key);
+			if (previousValue != null) {
+				changed(Collections.singleton((String) key));
+			}
+			return previousValue;
+		}
+
+		@Override
+		public void clear() {
+			Set<String> changedKeys = new HashSet<>(configurations.keySet());
+			configurations.clear();
+			changed(changedKeys);
+		}
+
+		private void changed(Set<String> changedKeys) {
+			if (changedKeys.isEmpty()) {
+				return;
+			}
+			version.incrementAndGet();
+			if (LISTENERS.isEmpty()) {
+				return;
+			}
+
+			GlobalConfig globalConfig = snapshot();
+			Set<String> keys = Collections.unmodifiableSet(changedKeys);
+			for (Listener listener : LISTENERS) {
+				try {
+					listener.onChange(globalConfig, keys);
+				} catch (RuntimeException runtimeException) {
+					LOGGER.error("REGISTRATION - GLOBAL_CONFIG", RegistrationConstants.APPLICATION_NAME,
+							RegistrationConstants.APPLICATION_ID,
+							runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
+				}
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package io.mosip.registration.dao;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.registration.entity.RegistrationAuditDates;
@@ -40,4 +41,25 @@ public interface AuditDAO {
 	 */
 	List<Audit> getAudits(RegistrationAuditDates registrationAuditDates, String registrationId);
 
+	/**
+	 * This method is used to retrieve the {@link Audit} logs which are yet to be
+	 * synchronized to the server along with the registration packet, page by page
+	 * in the order of their creation
+	 * 
+	 * @param registrationAuditDates
+	 *            the start and end DateTimes, and the UUID of the last audit,
+	 *            synchronized with last registration packet
+	 * @param registrationId
+	 *            the registration id, whose {@link Audit} logs are retrieved when
+	 *            no packet has been created earlier
+	 * @param pageSize
+	 *            the number of {@link Audit} logs retrieved in each page
+	 * @param maxAudits
+	 *            the maximum number of {@link Audit} logs to be retrieved
+	 * @param pageConsumer
+	 *            the consumer of each page of {@link Audit} logs
+	 */
+	void getAudits(RegistrationAuditDates registrationAuditDates, String registrationId, int pageSize, int maxAudits,
+			Consumer<List<Audit>> pageConsumer);
+
 }
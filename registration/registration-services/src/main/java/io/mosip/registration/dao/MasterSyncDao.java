@@ -167,6 +167,18 @@ public interface MasterSyncDao {
 	 */
 	List<DocumentCategory> getDocumentCategory();
 
+	/**
+	 * Get all the active valid documents from the DB
+	 * @return list of active {@link ValidDocument}
+	 */
+	List<ValidDocument> getValidDocuments();
+
+	/**
+	 * Get all the active document types from the DB
+	 * @return list of active {@link DocumentType}
+	 */
+	List<DocumentType> getDocumentTypes();
+
 
 	/**
 	 * Get all the active locations from the DB
@@ -38,6 +38,16 @@ public interface PreRegistrationDataSyncDAO {
 	 */
 	public PreRegistrationList save(PreRegistrationList preRegistration);
 
+	/**
+	 * This method is used to save the new and the updated pre registrations to the
+	 * {@link PreRegistrationList} table in one batch.
+	 * 
+	 * @param preRegistrations
+	 *            pre reg entity objects
+	 * @return List - saved pre registrations
+	 */
+	public List<PreRegistrationList> saveAll(List<PreRegistrationList> preRegistrations);
+
 	/**
 	 * This method is used to fetch the list of Pre-Registration Records that needs to be deleted from  {@link PreRegistrationList} table.
 	 * 
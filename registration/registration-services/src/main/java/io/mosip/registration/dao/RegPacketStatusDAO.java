@@ -21,6 +21,19 @@ public interface RegPacketStatusDAO {
 	 * 				returns the list of registrationIds which are uploaded successfully
 	 */
 	List<Registration> getPacketIdsByStatusUploaded();
+
+	/**
+	 * Fetches a page of the packets having the client status as PUSHED, the
+	 * recently uploaded first. The pages are fetched in order by passing the last
+	 * packet of the previous page.
+	 * 
+	 * @param lastPacket
+	 *            the last packet of the previous page, null for the first page
+	 * @param pageSize
+	 *            the maximum packets to be fetched
+	 * @return the packets uploaded before the given packet
+	 */
+	List<Registration> getUploadedPackets(Registration lastPacket, int pageSize);
 	
 	
 	/**
@@ -36,6 +49,13 @@ public interface RegPacketStatusDAO {
 	 * @return registration	- the updated registration entity
 	 */
 	Registration update(Registration registration);
+
+	/**
+	 * Update the details of the given registrations to the Registration as well as
+	 * Registration Transaction table in a single batch.
+	 * @param registrations - the registration entities
+	 */
+	void updateAll(List<Registration> registrations);
 	
 	/**
 	 * Delete the particular registration from the table
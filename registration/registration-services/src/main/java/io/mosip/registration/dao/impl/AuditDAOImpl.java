@@ -6,8 +6,10 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -76,4 +78,61 @@ public class AuditDAOImpl implements AuditDAO {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.registration.dao.AuditDAO#getAudits(io.mosip.registration.entity.
+	 * RegistrationAuditDates, java.lang.String, int, int,
+	 * java.util.function.Consumer)
+	 */
+	@Override
+	public void getAudits(RegistrationAuditDates registrationAuditDates, String registrationId, int pageSize,
+			int maxAudits, Consumer<List<Audit>> pageConsumer) {
+		LOGGER.info("REGISTRATION - FETCH_UNSYNCED_AUDITS - GET_ALL_AUDITS", APPLICATION_NAME, APPLICATION_ID,
+				"Fetching of unsynchronized audits in pages of " + pageSize + " started");
+
+		try {
+			int fetchedAudits = 0;
+			if (registrationAuditDates == null || registrationAuditDates.getAuditLogToDateTime() == null) {
+				List<Audit> audits = regAuditRepository.findByIdOrderByCreatedAtAsc(registrationId);
+				if (!audits.isEmpty()) {
+					audits = audits.subList(0, Math.min(audits.size(), maxAudits));
+					fetchedAudits = audits.size();
+					pageConsumer.accept(audits);
+				}
+			} else {
+				LocalDateTime auditLogToDateTime = registrationAuditDates.getAuditLogToDateTime().toLocalDateTime();
+				/*
+				 * Resume after the last audit of the last packet, as the next audits may have
+				 * the same created time
+				 */
+				List<Audit> audits = registrationAuditDates.getAuditLogToUuid() == null
+						? regAuditRepository.findByCreatedAtGreaterThanOrderByCreatedAtAscUuidAsc(auditLogToDateTime,
+								PageRequest.of(0, Math.min(pageSize, maxAudits)))
+						: regAuditRepository.findAuditsAfter(auditLogToDateTime,
+								registrationAuditDates.getAuditLogToUuid(),
+								PageRequest.of(0, Math.min(pageSize, maxAudits)));
+				while (!audits.isEmpty()) {
+					fetchedAudits += audits.size();
+					pageConsumer.accept(audits);
+
+					if (audits.size() < pageSize || fetchedAudits >= maxAudits) {
+						break;
+					}
+					/* Continue after the last fetched audit */
+					Audit lastAudit = audits.get(audits.size() - 1);
+					audits = regAuditRepository.findAuditsAfter(lastAudit.getCreatedAt(), lastAudit.getUuid(),
+							PageRequest.of(0, Math.min(pageSize, maxAudits - fetchedAudits)));
+				}
+			}
+
+			LOGGER.info("REGISTRATION - FETCH_UNSYNCED_AUDITS - GET_ALL_AUDITS", APPLICATION_NAME, APPLICATION_ID,
+					"Fetching of unsynchronized audits ended, audits fetched : " + fetchedAudits);
+		} catch (RuntimeException exception) {
+			throw new RegBaseUncheckedException(RegistrationExceptionConstants.REG_GET_AUDITS_EXCEPTION.getErrorCode(),
+					RegistrationExceptionConstants.REG_GET_AUDITS_EXCEPTION.getErrorMessage(), exception);
+		}
+	}
+
 }
@@ -300,6 +300,14 @@ public class MasterSyncDaoImpl implements MasterSyncDao {
 		return documentCategoryRepository.findAllByIsActiveTrue();
 	}
 
+	public List<ValidDocument> getValidDocuments() {
+		return validDocumentRepository.findAllByIsActiveTrue();
+	}
+
+	public List<DocumentType> getDocumentTypes() {
+		return documentTypeRepository.findAllByIsActiveTrue();
+	}
+
 	public List<Location> getLocationDetails() {
 		return locationRepository.findAllByIsActiveTrue();
 	}
@@ -71,6 +71,23 @@ public class PreRegistrationDataSyncDAOImpl implements PreRegistrationDataSyncDA
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.dao.PreRegistrationDataSyncDAO#saveAll(java.util.
+	 * List)
+	 */
+	@Override
+	public List<PreRegistrationList> saveAll(List<PreRegistrationList> preRegistrations) {
+
+		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_DAO_IMPL",
+				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+				"Saving Pre-Registrations : " + preRegistrations.size());
+
+		return preRegistrationRepository.saveAll(preRegistrations);
+
+	}
+
 	public List<PreRegistrationList> fetchRecordsToBeDeleted(Date startDate) {
 
 		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC_RECORD_FETCH - PRE_REGISTRATION_DATA_SYNC_DAO_IMPL",
@@ -3,10 +3,13 @@ package io.mosip.registration.dao.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.config.AppConfig;
@@ -58,6 +61,28 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.dao.RegPacketStatusDAO#getUploadedPackets(io.
+	 * mosip.registration.entity.Registration, int)
+	 */
+	@Override
+	public List<Registration> getUploadedPackets(Registration lastPacket, int pageSize) {
+		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"getting page of packets by status uploaded-successfully has been started");
+
+		String clientStatusCode = RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode();
+		if (lastPacket == null) {
+			return registrationRepository.findUploadedPackets(clientStatusCode, PageRequest.of(0, pageSize));
+		}
+		/* Continue after the last fetched packet */
+		Timestamp uploadTimestamp = lastPacket.getUploadTimestamp() != null ? lastPacket.getUploadTimestamp()
+				: lastPacket.getCrDtime();
+		return registrationRepository.findUploadedPacketsAfter(clientStatusCode, uploadTimestamp, lastPacket.getId(),
+				PageRequest.of(0, pageSize));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -86,6 +111,19 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.dao.RegPacketStatusDAO#updateAll(java.util.List)
+	 */
+	@Override
+	@Transactional
+	public void updateAll(List<Registration> registrations) {
+		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Update of " + registrations.size() + " registrations has been started");
+		registrationRepository.saveAll(registrations);
+	}
+
 	@Override
 	public void delete(Registration registration) {
 		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
@@ -75,6 +75,7 @@ public class RegistrationDTO {
 	private List<AuditDto> auditDTOs;
 	private Timestamp auditLogStartTime;
 	private Timestamp auditLogEndTime;
+	private String auditLogEndUuid;
 
 	/** The acknowledge receipt. */
 	private byte[] acknowledgeReceipt;
@@ -30,6 +30,8 @@ public class AuditLogControl {
 	private Timestamp auditLogFromDateTime;
 	@Column(name = "audit_log_to_dtimes")
 	private Timestamp auditLogToDateTime;
+	@Column(name = "audit_log_to_uuid")
+	private String auditLogToUuid;
 	@Column(name = "audit_log_sync_dtimes")
 	private Timestamp auditLogSyncDateTime;
 	@Column(name = "audit_log_purge_dtimes")
@@ -13,5 +13,6 @@ public interface RegistrationAuditDates {
 
 	Timestamp getAuditLogFromDateTime();
 	Timestamp getAuditLogToDateTime();
+	String getAuditLogToUuid();
 
 }
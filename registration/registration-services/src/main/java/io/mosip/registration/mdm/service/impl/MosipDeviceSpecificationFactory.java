@@ -5,23 +5,45 @@ import static io.mosip.registration.constants.LoggerConstants.MOSIP_BIO_DEVICE_I
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.PreDestroy;
+
+import org.apache.http.Consts;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,6 +66,7 @@ import io.mosip.registration.mdm.constants.MosipBioDeviceConstants;
 import io.mosip.registration.mdm.dto.Biometric;
 import io.mosip.registration.mdm.dto.MdmBioDevice;
 import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.util.common.BoundedExecutors;
 
 /**
  * 
@@ -68,6 +91,53 @@ public class MosipDeviceSpecificationFactory {
 
 	@Value("${mosip.registration.mdm.default.portRangeTo}")
 	private int defaultMDSPortTo;
+
+	/** Number of ports probed in parallel while scanning for the devices */
+	@Value("${mosip.registration.mdm.discovery.threads:10}")
+	private int discoveryThreads;
+
+	/** Connect timeout of a port probe in milliseconds */
+	@Value("${mosip.registration.mdm.discovery.connect.timeout:500}")
+	private int probeConnectTimeout;
+
+	/** Read timeout of a port probe in milliseconds */
+	@Value("${mosip.registration.mdm.discovery.read.timeout:5000}")
+	private int probeReadTimeout;
+
+	/** Connections kept to the device services in total and per port */
+	@Value("${mosip.registration.mdm.http.pool.max-total:20}")
+	private int poolMaxTotal;
+
+	@Value("${mosip.registration.mdm.http.pool.max-per-route:4}")
+	private int poolMaxPerRoute;
+
+	/** Milliseconds to wait for a free connection of the pool */
+	@Value("${mosip.registration.mdm.http.pool.request.timeout:10000}")
+	private int poolRequestTimeout;
+
+	/** Maximum seconds to wait for a rescan when a device is not found */
+	@Value("${mosip.registration.mdm.discovery.timeout:30}")
+	private int discoveryTimeout;
+
+	/** File in the working directory holding the last known device ports */
+	@Value("${mosip.registration.mdm.registry.file:mds_registry.properties}")
+	private String registryFileName;
+
+	private static final String USER_DIR = "user.dir";
+
+	private static final long SCAN_POLL_MILLIS = 200;
+
+	private static final ContentType MDS_CONTENT_TYPE = ContentType.create("Content-Type", Consts.UTF_8);
+
+	private static final Pattern PAYLOAD_PATTERN = Pattern.compile(RegistrationConstants.BIOMETRIC_SEPERATOR);
+
+	private static final long IDLE_CONNECTION_SECONDS = 30;
+
+	private ExecutorService discoveryExecutor;
+
+	private CloseableHttpClient mdsHttpClient;
+
+	private CompletableFuture<Void> runningScan;
 	private static final Logger LOGGER = AppConfig.getLogger(MosipDeviceSpecificationFactory.class);
 
 	private ObjectMapper mapper = new ObjectMapper();
@@ -86,7 +156,7 @@ public class MosipDeviceSpecificationFactory {
 	private List<MosipDeviceSpecificationProvider> deviceSpecificationProviders;
 
 	/** Key is modality value is (specVersion, MdmBioDevice) */
-	private static Map<String, MdmBioDevice> deviceInfoMap = new LinkedHashMap<>();
+	private static Map<String, MdmBioDevice> deviceInfoMap = new ConcurrentHashMap<>();
 
 	public static Map<String, MdmBioDevice> getDeviceInfoMap() {
 		return deviceInfoMap;
@@ -100,7 +170,8 @@ public class MosipDeviceSpecificationFactory {
 	 * the running biometric devices
 	 * <p>
 	 * In order to prepare device registry it will loop through the specified ports
-	 * and identify on which port any particular biometric device is running
+	 * and identify on which port any particular biometric device is running. The
+	 * ports on which the devices were found earlier are probed first.
 	 * </p>
 	 * 
 	 * Looks for all the configured ports available and initializes all the
@@ -113,29 +184,9 @@ public class MosipDeviceSpecificationFactory {
 		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 				"Entering init method for preparing device registry");
 
-		portFrom = getPortFrom();
-		portTo = getPortTo();
+		/* An A-sync task to complete MDS initialization */
+		startScan();
 
-		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-				"Checking device info from port : " + portFrom + " to port : " + portTo);
-		if (portFrom != 0) {
-			for (int port = portFrom; port <= portTo; port++) {
-
-				final int currentPort = port;
-
-				/* An A-sync task to complete MDS initialization */
-				new Thread(() -> {
-					try {
-						initByPort(currentPort);
-					} catch (RuntimeException exception) {
-						LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-								"Exception while mapping the response : " + exception.getMessage()
-										+ ExceptionUtils.getStackTrace(exception));
-					}
-				}).start();
-
-			}
-		}
 		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 				"Exit init method for preparing device registry");
 	}
@@ -195,14 +246,12 @@ public class MosipDeviceSpecificationFactory {
 	public static boolean checkServiceAvailability(String serviceUrl, String method) {
 		HttpUriRequest request = RequestBuilder.create(method).setUri(serviceUrl).build();
 
-		CloseableHttpClient client = HttpClients.createDefault();
-		try {
-			client.execute(request);
+		try (CloseableHttpClient client = HttpClients.createDefault();
+				CloseableHttpResponse response = client.execute(request)) {
+			return true;
 		} catch (Exception exception) {
 			return false;
 		}
-		return true;
-
 	}
 
 	public void initByPort(Integer availablePort) {
@@ -211,94 +260,283 @@ public class MosipDeviceSpecificationFactory {
 				"Initializing device " + " on Port : " + availablePort);
 
 		if (availablePort != null && availablePort != 0) {
+			probePort(availablePort);
+		} else {
+			awaitScan(null);
+		}
+	}
 
-			LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Initializing device " + " on Port : " + availablePort);
+	/**
+	 * Starts a scan of the configured ports, unless one is already running. The
+	 * ports of the known devices are probed before the rest of the range.
+	 * 
+	 * @return the running scan
+	 */
+	private synchronized CompletableFuture<Void> startScan() {
+		if (runningScan != null && !runningScan.isDone()) {
+			return runningScan;
+		}
+
+		portFrom = getPortFrom();
+		portTo = getPortTo();
 
-			String url;
+		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+				"Checking device info from port : " + portFrom + " to port : " + portTo);
+
+		if (portFrom == 0) {
+			runningScan = CompletableFuture.completedFuture(null);
+			return runningScan;
+		}
+
+		Set<Integer> knownPorts = getKnownPorts(portFrom, portTo);
+		List<Integer> otherPorts = new ArrayList<>();
+		for (int port = portFrom; port <= portTo; port++) {
+			if (!knownPorts.contains(port)) {
+				otherPorts.add(port);
+			}
+		}
+
+		long startTime = System.currentTimeMillis();
+		runningScan = probePorts(knownPorts).thenCompose(knownPortsProbed -> probePorts(otherPorts))
+				.whenComplete((scanned, throwable) -> {
+					saveDeviceRegistry();
+					LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+							"Device registry prepared with " + deviceInfoMap.size() + " devices in "
+									+ (System.currentTimeMillis() - startTime) + " ms");
+				});
+		return runningScan;
+	}
 
-			url = buildUrl(availablePort, MosipBioDeviceConstants.DEVICE_INFO_ENDPOINT);
+	/**
+	 * Waits for the running scan to complete, or only until the device is found
+	 * when a device key is given
+	 * 
+	 * @param deviceKey the type and sub type of the device
+	 */
+	private void awaitScan(String deviceKey) {
+		CompletableFuture<Void> scan = startScan();
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(discoveryTimeout);
 
-			LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Checking device info on url : " + url);
+		while (!scan.isDone() && (deviceKey == null || !deviceInfoMap.containsKey(deviceKey))
+				&& System.currentTimeMillis() < deadline) {
+			try {
+				scan.get(SCAN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException timeoutException) {
+				/* check again whether the device has been found */
+			} catch (ExecutionException exception) {
+				LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+				return;
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
 
-			/* check if the service is available for the current port */
-			if (checkServiceAvailability(url, "MOSIPDINFO")) {
+	private CompletableFuture<Void> probePorts(Collection<Integer> ports) {
+		return CompletableFuture.allOf(ports.stream()
+				.map(port -> CompletableFuture.runAsync(() -> probePort(port), getDiscoveryExecutor()))
+				.toArray(CompletableFuture[]::new));
+	}
 
-				try {
-					String deviceInfoResponse = getDeviceInfoResponse(url);
+	/**
+	 * Reads the device info of the port and refreshes the devices registered on
+	 * it. The devices no longer reported on the port are removed only when the
+	 * device info is read and decoded, a busy or stopped device service keeps
+	 * its devices.
+	 * 
+	 * @param port the port to be probed
+	 */
+	private void probePort(int port) {
+		String url = buildUrl(port, MosipBioDeviceConstants.DEVICE_INFO_ENDPOINT);
 
-					for (MosipDeviceSpecificationProvider deviceSpecificationProvider : deviceSpecificationProviders) {
+		LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Checking device info on url : " + url);
 
-						LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-								"Decoding deice info response with provider : " + deviceSpecificationProvider);
+		Set<String> deviceKeys = new HashSet<>();
+		try {
+			String deviceInfoResponse = getDeviceInfoResponse(url);
 
-						List<MdmBioDevice> mdmBioDevices = deviceSpecificationProvider.getMdmDevices(deviceInfoResponse,
-								availablePort);
+			if (deviceInfoResponse != null && !deviceInfoResponse.trim().isEmpty()) {
+				for (MosipDeviceSpecificationProvider deviceSpecificationProvider : deviceSpecificationProviders) {
 
-						for (MdmBioDevice bioDevice : mdmBioDevices) {
-							if (bioDevice != null) {
-								LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-										"Checking for device registratrion : " + bioDevice.getDeviceCode());
+					LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+							"Decoding deice info response with provider : " + deviceSpecificationProvider);
 
-								// Add to Device Info Map
-								addToDeviceInfoMap(getDeviceType(bioDevice.getDeviceType()).toLowerCase(),
-										getDeviceSubType(bioDevice.getDeviceSubType()), bioDevice);
-							}
+					List<MdmBioDevice> mdmBioDevices = deviceSpecificationProvider.getMdmDevices(deviceInfoResponse,
+							port);
+
+					for (MdmBioDevice bioDevice : mdmBioDevices) {
+						if (bioDevice != null) {
+							LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+									"Checking for device registratrion : " + bioDevice.getDeviceCode());
+
+							// Add to Device Info Map
+							deviceKeys.add(addToDeviceInfoMap(getDeviceType(bioDevice.getDeviceType()).toLowerCase(),
+									getDeviceSubType(bioDevice.getDeviceSubType()), bioDevice));
 						}
 					}
-				} catch (RuntimeException runtimeException) {
-					LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-							runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
-
 				}
 
+				deviceInfoMap.entrySet().removeIf(
+						device -> device.getValue().getPort() == port && !deviceKeys.contains(device.getKey()));
+			} else {
+				LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+						"No device is running at port number " + port);
 			}
+		} catch (RuntimeException runtimeException) {
+			LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+					runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
+		}
+	}
 
-			else {
-				LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-						"No device is running at port number " + availablePort);
-			}
-
-		} else {
-			portFrom = getPortFrom();
+	private synchronized ExecutorService getDiscoveryExecutor() {
+		if (discoveryExecutor == null) {
+			discoveryExecutor = BoundedExecutors.newDaemonExecutor("mds-discovery", discoveryThreads);
+		}
+		return discoveryExecutor;
+	}
 
-			portTo = getPortTo();
+	/**
+	 * Pooled client shared by the calls to the device services running on the
+	 * local machine
+	 * 
+	 * @return the {@link CloseableHttpClient}
+	 */
+	public synchronized CloseableHttpClient getMdsHttpClient() {
+		if (mdsHttpClient == null) {
+			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+			connectionManager.setMaxTotal(Math.max(Math.max(1, discoveryThreads), poolMaxTotal));
+			connectionManager.setDefaultMaxPerRoute(Math.max(1, poolMaxPerRoute));
+			mdsHttpClient = HttpClients.custom().setConnectionManager(connectionManager)
+					.setDefaultRequestConfig(
+							RequestConfig.custom().setConnectionRequestTimeout(poolRequestTimeout).build())
+					.evictIdleConnections(IDLE_CONNECTION_SECONDS, TimeUnit.SECONDS).build();
+		}
+		return mdsHttpClient;
+	}
 
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Checking device info from port : " + portFrom + " to port : " + portTo);
-			ExecutorService executorService = Executors.newFixedThreadPool(5);
+	@PreDestroy
+	public synchronized void closeMdsHttpClient() {
+		if (mdsHttpClient != null) {
+			try {
+				mdsHttpClient.close();
+			} catch (IOException exception) {
+				LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+			}
+			mdsHttpClient = null;
+		}
+	}
 
-			for (int port = portFrom; port <= portTo; port++) {
+	/**
+	 * Sends the request to the device service on the local machine, the response
+	 * is parsed directly from the response stream
+	 * 
+	 * @param method       the MDS method
+	 * @param url          the url of the device service
+	 * @param request      the request to be sent as JSON
+	 * @param responseType the type of the response
+	 * @return the parsed response
+	 * @throws IOException - when the device service is not reachable or the
+	 *                     response cannot be parsed
+	 */
+	public <T> T sendRequest(String method, String url, Object request, Class<T> responseType) throws IOException {
+		HttpUriRequest httpUriRequest = RequestBuilder.create(method).setUri(url)
+				.setEntity(new ByteArrayEntity(mapper.writeValueAsBytes(request), MDS_CONTENT_TYPE)).build();
 
-				int currentPort = port;
-				executorService.execute(new Runnable() {
-					public void run() {
+		try (CloseableHttpResponse response = getMdsHttpClient().execute(httpUriRequest)) {
+			return mapper.readValue(response.getEntity().getContent(), responseType);
+		}
+	}
 
-						initByPort(currentPort);
+	/**
+	 * Opens the stream of the device service on the local machine. Closing the
+	 * returned stream releases the connection without reading the stream to its
+	 * end.
+	 * 
+	 * @param url     the url of the stream
+	 * @param request the request to be sent as JSON
+	 * @return the stream, or null when the device service sent no content
+	 * @throws IOException - when the device service is not reachable, or no
+	 *                     pooled connection is free in time
+	 */
+	public InputStream openStream(String url, Object request) throws IOException {
+		HttpUriRequest httpUriRequest = RequestBuilder.create("STREAM").setUri(url)
+				.setEntity(new ByteArrayEntity(mapper.writeValueAsBytes(request), MDS_CONTENT_TYPE)).build();
 
-					}
-				});
+		CloseableHttpResponse response = getMdsHttpClient().execute(httpUriRequest);
+		InputStream content = null;
+		try {
+			if (response.getEntity() != null) {
+				content = response.getEntity().getContent();
+			}
+		} finally {
+			if (content == null) {
+				response.close();
+			}
+		}
+		if (content == null) {
+			return null;
+		}
+		return new FilterInputStream(content) {
 
+			@Override
+			public void close() throws IOException {
+				response.close();
 			}
+		};
+	}
 
-			try {
-				executorService.shutdown();
-				executorService.awaitTermination(500, TimeUnit.SECONDS);
-			} catch (Exception exception) {
-				executorService.shutdown();
+	/**
+	 * Ports of the devices found in the current or an earlier session, within the
+	 * configured range
+	 */
+	private Set<Integer> getKnownPorts(int fromPort, int toPort) {
+		Set<Integer> knownPorts = new LinkedHashSet<>();
+		deviceInfoMap.values().forEach(device -> knownPorts.add(device.getPort()));
+
+		File registryFile = new File(System.getProperty(USER_DIR), registryFileName);
+		if (registryFile.exists()) {
+			Properties registry = new Properties();
+			try (InputStream inputStream = new FileInputStream(registryFile)) {
+				registry.load(inputStream);
+				registry.values().forEach(port -> knownPorts.add(Integer.valueOf(String.valueOf(port))));
+			} catch (IOException | RuntimeException exception) {
 				LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-
+						"Exception while reading device registry : " + exception.getMessage()
+								+ ExceptionUtils.getStackTrace(exception));
 			}
 		}
+		knownPorts.removeIf(port -> port < fromPort || port > toPort);
+		return knownPorts;
+	}
+
+	/**
+	 * Persists the port of each device found, so that the next session probes
+	 * these ports first
+	 */
+	private void saveDeviceRegistry() {
+		Properties registry = new Properties();
+		deviceInfoMap.forEach((deviceKey, device) -> registry.setProperty(deviceKey, String.valueOf(device.getPort())));
+
+		try (OutputStream outputStream = new FileOutputStream(
+				new File(System.getProperty(USER_DIR), registryFileName))) {
+			registry.store(outputStream, "Last known ports of the biometric devices");
+		} catch (IOException exception) {
+			LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+					"Exception while saving device registry : " + exception.getMessage()
+							+ ExceptionUtils.getStackTrace(exception));
+		}
 	}
 
-	private void addToDeviceInfoMap(String type, String subType, MdmBioDevice bioDevice) {
+	private String addToDeviceInfoMap(String type, String subType, MdmBioDevice bioDevice) {
 
 		String key = String.format("%s_%s", type.toLowerCase(), subType.toLowerCase());
 
 		deviceInfoMap.put(key, bioDevice);
 
+		return key;
 	}
 
 	private String getDeviceType(String type) {
@@ -343,8 +581,7 @@ public class MosipDeviceSpecificationFactory {
 					RegistrationExceptionConstants.MDS_JWT_INVALID.getErrorMessage());
 		}
 		String payLoad = null;
-		Pattern pattern = Pattern.compile(RegistrationConstants.BIOMETRIC_SEPERATOR);
-		Matcher matcher = pattern.matcher(data);
+		Matcher matcher = PAYLOAD_PATTERN.matcher(data);
 		if (matcher.find()) {
 			payLoad = matcher.group(1);
 		}
@@ -356,6 +593,19 @@ public class MosipDeviceSpecificationFactory {
 		return payLoad;
 	}
 
+	/**
+	 * Decodes the payload of the signed data, without copying it into a string
+	 * 
+	 * @param data      the signed data
+	 * @param valueType the type of the payload
+	 * @return the decoded payload
+	 * @throws RegBaseCheckedException - when the payload is not found
+	 * @throws IOException             - when the payload cannot be parsed
+	 */
+	public <T> T getDecodedPayLoad(String data, Class<T> valueType) throws RegBaseCheckedException, IOException {
+		return mapper.readValue(Base64.getUrlDecoder().decode(getPayLoad(data)), valueType);
+	}
+
 	public String buildUrl(int port, String endPoint) {
 		return getRunningurl() + ":" + port + "/" + endPoint;
 	}
@@ -366,25 +616,18 @@ public class MosipDeviceSpecificationFactory {
 
 	private String getDeviceInfoResponse(String url) {
 
-		HttpUriRequest request = RequestBuilder.create("MOSIPDINFO").setUri(url).build();
-		CloseableHttpClient client = HttpClients.createDefault();
-		CloseableHttpResponse clientResponse = null;
-		String response = null;
+		HttpUriRequest request = RequestBuilder.create("MOSIPDINFO").setUri(url)
+				.setConfig(RequestConfig.custom().setConnectTimeout(probeConnectTimeout)
+						.setConnectionRequestTimeout(probeReadTimeout).setSocketTimeout(probeReadTimeout).build())
+				.build();
 
-		try {
-			clientResponse = client.execute(request);
-			response = EntityUtils.toString(clientResponse.getEntity());
+		try (CloseableHttpResponse clientResponse = getMdsHttpClient().execute(request)) {
+			return EntityUtils.toString(clientResponse.getEntity());
 		} catch (IOException exception) {
-			LOGGER.error(MOSIP_BIO_DEVICE_INTEGERATOR, APPLICATION_NAME, APPLICATION_ID,
-					String.format(
-							"%s -> Exception while initializing Fingerprint Capture page for user registration  %s",
-							RegistrationConstants.USER_REG_FINGERPRINT_PAGE_LOAD_EXP,
-							exception.getMessage() + ExceptionUtils.getStackTrace(exception)));
-
+			LOGGER.debug(MOSIP_BIO_DEVICE_INTEGERATOR, APPLICATION_NAME, APPLICATION_ID,
+					"Device info not available on url : " + url + " " + exception.getMessage());
+			return null;
 		}
-
-		return response;
-
 	}
 
 	public static long generateID() {
@@ -432,7 +675,8 @@ public class MosipDeviceSpecificationFactory {
 			return deviceInfoMap.get(key);
 		} else {
 			try {
-				initByPort(null);
+				/* rescan for a device plugged in after the last scan */
+				awaitScan(key);
 				if (deviceInfoMap.containsKey(key)) {
 					return deviceInfoMap.get(key);
 				}
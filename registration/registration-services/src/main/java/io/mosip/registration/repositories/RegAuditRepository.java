@@ -3,6 +3,7 @@ package io.mosip.registration.repositories;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -50,6 +51,35 @@ public interface RegAuditRepository extends BaseRepository<Audit, Long> {
 	 */
 	List<Audit> findByCreatedAtGreaterThanOrderByCreatedAtAsc(LocalDateTime auditTimeAfter);
 
+	/**
+	 * Retrieves a page of the {@link Audit} logged after the input parameter
+	 * auditTimeAfter. The returned list is ordered by created time and UUID.
+	 * 
+	 * @param auditTimeAfter
+	 *            the {@link Audit} will be fetched after this {@link LocalDateTime}
+	 * @param pageable
+	 *            the page to be fetched
+	 * @return returns the {@link Audit} logged after the given
+	 *         {@link LocalDateTime}
+	 */
+	List<Audit> findByCreatedAtGreaterThanOrderByCreatedAtAscUuidAsc(LocalDateTime auditTimeAfter, Pageable pageable);
+
+	/**
+	 * Retrieves a page of the {@link Audit} which follow the given {@link Audit}
+	 * in the order of created time and UUID.
+	 * 
+	 * @param createdAt
+	 *            the created time of the last fetched {@link Audit}
+	 * @param uuid
+	 *            the UUID of the last fetched {@link Audit}
+	 * @param pageable
+	 *            the page to be fetched
+	 * @return returns the {@link Audit} following the given {@link Audit}
+	 */
+	@Query("SELECT a FROM Audit a WHERE a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.uuid > :uuid) ORDER BY a.createdAt ASC, a.uuid ASC")
+	List<Audit> findAuditsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("uuid") String uuid,
+			Pageable pageable);
+
 	/**
 	 * Retrieves the {@link Audit} ordered by created time
 	 * 
@@ -3,6 +3,7 @@ package io.mosip.registration.repositories;
 import java.sql.Timestamp;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -145,4 +146,37 @@ public interface RegistrationRepository extends BaseRepository<Registration, Str
 	 */
 	List<Registration> findByClientStatusCodeNotInAndServerStatusCodeIn(List<String> clientStutusCodes,
 			List<String> serverStatusCodes);
+
+	/**
+	 * Retrieves a page of the {@link Registration} having the given client status
+	 * code. The returned list is ordered by upload time, the recently uploaded
+	 * first, and registration id.
+	 *
+	 * @param clientStatusCode
+	 *            the client status code
+	 * @param pageable
+	 *            the page to be fetched
+	 * @return the list of {@link Registration}
+	 */
+	@Query("SELECT reg FROM Registration reg WHERE reg.clientStatusCode = :clientStatusCode ORDER BY COALESCE(reg.uploadTimestamp, reg.crDtime) DESC, reg.id DESC")
+	List<Registration> findUploadedPackets(@Param("clientStatusCode") String clientStatusCode, Pageable pageable);
+
+	/**
+	 * Retrieves a page of the {@link Registration} having the given client status
+	 * code, which follow the given {@link Registration} in the order of upload
+	 * time, the recently uploaded first, and registration id.
+	 *
+	 * @param clientStatusCode
+	 *            the client status code
+	 * @param uploadTimestamp
+	 *            the upload time of the last fetched {@link Registration}
+	 * @param id
+	 *            the id of the last fetched {@link Registration}
+	 * @param pageable
+	 *            the page to be fetched
+	 * @return the list of {@link Registration}
+	 */
+	@Query("SELECT reg FROM Registration reg WHERE reg.clientStatusCode = :clientStatusCode AND (COALESCE(reg.uploadTimestamp, reg.crDtime) < :uploadTimestamp OR (COALESCE(reg.uploadTimestamp, reg.crDtime) = :uploadTimestamp AND reg.id < :id)) ORDER BY COALESCE(reg.uploadTimestamp, reg.crDtime) DESC, reg.id DESC")
+	List<Registration> findUploadedPacketsAfter(@Param("clientStatusCode") String clientStatusCode,
+			@Param("uploadTimestamp") Timestamp uploadTimestamp, @Param("id") String id, Pageable pageable);
 }
@@ -19,6 +19,7 @@ import io.mosip.kernel.core.util.FileUtils;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.context.GlobalConfig;
 import io.mosip.registration.entity.Registration;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
@@ -94,13 +95,12 @@ public class StorageServiceImpl extends BaseService implements StorageService {
 			throwRegBaseCheckedException(RegistrationExceptionConstants.REG_PACKET_STORAGE_INVALID_DATA);
 		}
 
-		if (ApplicationContext.map().get(RegistrationConstants.PACKET_STORE_LOCATION) == null
-				|| ApplicationContext.map().get(RegistrationConstants.PACKET_STORE_LOCATION).toString().isEmpty()) {
+		GlobalConfig globalConfig = GlobalConfig.of(ApplicationContext.map());
+		if (isStringEmpty(globalConfig.getString(RegistrationConstants.PACKET_STORE_LOCATION))) {
 			throwRegBaseCheckedException(RegistrationExceptionConstants.REG_PACKET_STORAGE_LOCATION_INVALID);
 		}
 
-		if (ApplicationContext.map().get(RegistrationConstants.PACKET_STORE_DATE_FORMAT) == null
-				|| ApplicationContext.map().get(RegistrationConstants.PACKET_STORE_DATE_FORMAT).toString().isEmpty()) {
+		if (isStringEmpty(globalConfig.getString(RegistrationConstants.PACKET_STORE_DATE_FORMAT))) {
 			throwRegBaseCheckedException(RegistrationExceptionConstants.REG_PACKET_STORAGE_DATE_FORMAT_INVALID);
 		}
 	}
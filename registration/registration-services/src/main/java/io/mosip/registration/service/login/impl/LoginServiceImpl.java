@@ -5,16 +5,28 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 import static io.mosip.registration.mapper.CustomObjectMapper.MAPPER_FACADE;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.registration.constants.*;
 import io.mosip.registration.dto.*;
+import io.mosip.registration.util.common.BoundedExecutors;
+import io.mosip.registration.util.common.TaskGraph;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.AuthTokenUtilService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -59,6 +71,9 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 	private final String USER_DETAIL_SYNC_STEP = "User detail Sync";
 	private final String USER_SALT_SYNC_STEP = "User salt Sync";
 
+	/** Data sync steps, which are not run again if the initial sync is started over */
+	private final List<String> CHECKPOINT_STEPS = Arrays.asList(CLIENTSETTINGS_SYNC_STEP, USER_DETAIL_SYNC_STEP);
+
 	/**
 	 * Instance of LOGGER
 	 */
@@ -121,6 +136,23 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 	@Autowired
 	private ClientCryptoFacade clientCryptoFacade;
 
+	@Value("${mosip.registration.initial.sync.threads:2}")
+	private int initialSyncThreads;
+
+	@Value("${mosip.registration.initial.sync.retries:2}")
+	private int initialSyncRetries;
+
+	@Value("${mosip.registration.initial.sync.retry.delay.ms:2000}")
+	private long initialSyncRetryDelay;
+
+	@Value("${mosip.registration.initial.sync.checkpoint.file:db/initial_sync_checkpoint}")
+	private String initialSyncCheckpointFile;
+
+	@Value("${mosip.registration.initial.sync.checkpoint.validity.hours:24}")
+	private long initialSyncCheckpointValidity;
+
+	private ExecutorService initialSyncExecutor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -329,53 +361,44 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 	public List<String> initialSync(String triggerPoint) {
 		long start = System.currentTimeMillis();
 		LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "Started Initial sync");
-		List<String> results = new LinkedList<>();		
+		List<String> results = Collections.synchronizedList(new LinkedList<>());
 		final boolean isInitialSetUp = RegistrationConstants.ENABLE.equalsIgnoreCase(getGlobalConfigValueOf(RegistrationConstants.INITIAL_SETUP));		
-		ResponseDTO responseDTO = null;
-		
+		AtomicReference<String> keyIndex = new AtomicReference<>();
+
+		// user detail and client settings sync run concurrently, once the keys are verified and the configs synced
+		TaskGraph initialSyncGraph = new TaskGraph("REGISTRATION  - LOGINSERVICE")
+				.addTask(PUBLIC_KEY_SYNC_STEP,
+						() -> validateResponse(publicKeySyncImpl.getPublicKey(triggerPoint), PUBLIC_KEY_SYNC_STEP))
+				.addTask(MACHINE_KEY_VERIFICATION_STEP, () -> {
+					validateResponse(tpmPublicKeySyncService.syncTPMPublicKey(), MACHINE_KEY_VERIFICATION_STEP);
+					keyIndex.set(CryptoUtil.computeFingerPrint(clientCryptoFacade.getClientSecurity().getEncryptionPublicPart(), null));
+					ApplicationContext.map().put(RegistrationConstants.KEY_INDEX, keyIndex.get());
+					LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "Initial Verifiation Done : " + MACHINE_KEY_VERIFICATION_STEP);
+				}, PUBLIC_KEY_SYNC_STEP)
+				.addTask(GLOBAL_PARAM_SYNC_STEP, () -> {
+					ResponseDTO responseDTO = globalParamService.synchConfigData(false);
+					validateResponse(responseDTO, GLOBAL_PARAM_SYNC_STEP);
+					if(responseDTO.getSuccessResponseDTO().getOtherAttributes() != null)
+						results.add(RegistrationConstants.RESTART);
+				}, MACHINE_KEY_VERIFICATION_STEP)
+				.addTask(CLIENTSETTINGS_SYNC_STEP, () -> validateResponse(masterSyncService.getMasterSync(
+						RegistrationConstants.OPT_TO_REG_MDS_J00001, triggerPoint, keyIndex.get()), CLIENTSETTINGS_SYNC_STEP),
+						GLOBAL_PARAM_SYNC_STEP)
+				.addTask(USER_DETAIL_SYNC_STEP,
+						() -> validateResponse(userDetailService.save(triggerPoint), USER_DETAIL_SYNC_STEP),
+						GLOBAL_PARAM_SYNC_STEP)
+				.withRetries(initialSyncRetries, initialSyncRetryDelay, exception -> !isAuthTokenEmptyException(exception))
+				.withCheckpoints(getInitialSyncCheckpoints(), this::saveInitialSyncCheckpoint);
+
 		try {
-			long taskStart = System.currentTimeMillis();
-			responseDTO = publicKeySyncImpl.getPublicKey(triggerPoint);
-			validateResponse(responseDTO, PUBLIC_KEY_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, PUBLIC_KEY_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = tpmPublicKeySyncService.syncTPMPublicKey();
-			validateResponse(responseDTO, MACHINE_KEY_VERIFICATION_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, MACHINE_KEY_VERIFICATION_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			String keyIndex = CryptoUtil.computeFingerPrint(clientCryptoFacade.getClientSecurity().getEncryptionPublicPart(), null);
-			ApplicationContext.map().put(RegistrationConstants.KEY_INDEX, keyIndex);
-
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "Initial Verifiation Done : " + MACHINE_KEY_VERIFICATION_STEP);
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = globalParamService.synchConfigData(false);
-			validateResponse(responseDTO, GLOBAL_PARAM_SYNC_STEP);
-			if(responseDTO.getSuccessResponseDTO().getOtherAttributes() != null)
-				results.add(RegistrationConstants.RESTART);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, GLOBAL_PARAM_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = masterSyncService.getMasterSync(RegistrationConstants.OPT_TO_REG_MDS_J00001, triggerPoint, keyIndex) ;
-			validateResponse(responseDTO, CLIENTSETTINGS_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, CLIENTSETTINGS_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = userDetailService.save(triggerPoint);
-			validateResponse(responseDTO, USER_DETAIL_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, USER_DETAIL_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
+			initialSyncGraph.execute(getInitialSyncExecutor());
 
 			if(isInitialSetUp) {
 				LoginUserDTO loginUserDTO = (LoginUserDTO) ApplicationContext.map().get(RegistrationConstants.USER_DTO);
 				userDetailDAO.updateUserPwd(loginUserDTO.getUserId(), loginUserDTO.getPassword());
 			}
 
+			clearInitialSyncCheckpoints();
 			results.add(RegistrationConstants.SUCCESS);
 			
 			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "completed Initial sync in (ms) : " +
@@ -388,6 +411,72 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 		return results;
 	}
 
+	/**
+	 * @return the data sync steps completed by an earlier initial sync, which
+	 *         failed within the validity of the checkpoints
+	 */
+	private synchronized Set<String> getInitialSyncCheckpoints() {
+		Set<String> completedSteps = new HashSet<>();
+		File checkpointFile = initialSyncCheckpointFile == null ? null : new File(initialSyncCheckpointFile);
+		if (checkpointFile != null && checkpointFile.exists()) {
+			Properties checkpoints = new Properties();
+			try (InputStream inputStream = new FileInputStream(checkpointFile)) {
+				checkpoints.load(inputStream);
+			} catch (IOException ioException) {
+				LOGGER.error(LOG_REG_LOGIN_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+						ExceptionUtils.getStackTrace(ioException));
+			}
+			long validFrom = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(initialSyncCheckpointValidity);
+			for (String step : CHECKPOINT_STEPS) {
+				String completedAt = checkpoints.getProperty(step);
+				if (completedAt != null && completedAt.matches("\\d+") && Long.parseLong(completedAt) >= validFrom) {
+					completedSteps.add(step);
+				}
+			}
+		}
+		return completedSteps;
+	}
+
+	private synchronized void saveInitialSyncCheckpoint(String step) {
+		if (initialSyncCheckpointFile == null || !CHECKPOINT_STEPS.contains(step)) {
+			return;
+		}
+		File checkpointFile = new File(initialSyncCheckpointFile);
+		Properties checkpoints = new Properties();
+		try {
+			if (checkpointFile.exists()) {
+				try (InputStream inputStream = new FileInputStream(checkpointFile)) {
+					checkpoints.load(inputStream);
+				}
+			}
+			checkpoints.setProperty(step, String.valueOf(System.currentTimeMillis()));
+			try (OutputStream outputStream = new FileOutputStream(checkpointFile)) {
+				checkpoints.store(outputStream, "Data sync steps completed by the initial sync");
+			}
+		} catch (IOException ioException) {
+			LOGGER.error(LOG_REG_LOGIN_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+					ExceptionUtils.getStackTrace(ioException));
+		}
+	}
+
+	private synchronized void clearInitialSyncCheckpoints() {
+		if (initialSyncCheckpointFile != null) {
+			try {
+				Files.deleteIfExists(new File(initialSyncCheckpointFile).toPath());
+			} catch (IOException ioException) {
+				LOGGER.error(LOG_REG_LOGIN_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+						ExceptionUtils.getStackTrace(ioException));
+			}
+		}
+	}
+
+	private synchronized ExecutorService getInitialSyncExecutor() {
+		if (initialSyncExecutor == null) {
+			initialSyncExecutor = BoundedExecutors.newDaemonExecutor("initial-sync", initialSyncThreads);
+		}
+		return initialSyncExecutor;
+	}
+
 	//Not required as this validation is handled in ClientSecurityFacade
 	/*private String verifyMachinePublicKeyMapping(boolean isInitialSetup) throws RegBaseCheckedException {
 		final boolean tpmAvailable = RegistrationConstants.ENABLE.equals(getGlobalConfigValueOf(RegistrationConstants.TPM_AVAILABILITY));
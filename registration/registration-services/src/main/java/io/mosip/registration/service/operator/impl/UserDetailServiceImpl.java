@@ -38,6 +38,7 @@ import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.operator.UserDetailService;
 import io.mosip.registration.service.operator.UserOnboardService;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 
 /**
@@ -58,6 +59,9 @@ public class UserDetailServiceImpl extends BaseService implements UserDetailServ
 	@Autowired
 	private ClientCryptoFacade clientCryptoFacade;
 
+	@Autowired
+	private OperatorBiometricGallery operatorBiometricGallery;
+
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(UserDetailServiceImpl.class);
 
@@ -130,6 +134,9 @@ public class UserDetailServiceImpl extends BaseService implements UserDetailServ
 			} catch (RegBaseCheckedException | IOException exRegBaseCheckedException) {
 				LOGGER.error(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
 						ExceptionUtils.getStackTrace(exRegBaseCheckedException));
+			} finally {
+				// synced users and their biometrics are matched again from the saved details
+				operatorBiometricGallery.invalidate();
 			}
 			setErrorResponse(responseDTO, RegistrationConstants.ERROR, null);
 
@@ -66,6 +66,7 @@ import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.operator.UserOnboardService;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.healthcheck.RegistrationSystemPropertiesChecker;
 import io.mosip.registration.util.publickey.PublicKeyGenerationUtil;
@@ -83,6 +84,9 @@ public class UserOnboardServiceImpl extends BaseService implements UserOnboardSe
 	@Autowired
 	private UserOnboardDAO userOnBoardDao;
 
+	@Autowired
+	private OperatorBiometricGallery operatorBiometricGallery;
+
 	@Autowired
 	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
 
@@ -371,6 +375,7 @@ public class UserOnboardServiceImpl extends BaseService implements UserOnboardSe
 			onBoardingResponse = userOnBoardDao.insert(biometrics);
 			if (onBoardingResponse.equalsIgnoreCase(RegistrationConstants.SUCCESS)) {
 				LOGGER.info(LOG_REG_USER_ONBOARD, APPLICATION_NAME, APPLICATION_ID, "operator details inserted");
+				operatorBiometricGallery.invalidate();
 
 				if ((RegistrationConstants.SUCCESS).equalsIgnoreCase(userOnBoardDao.save())) {
 					LOGGER.info(LOG_REG_USER_ONBOARD, APPLICATION_NAME, APPLICATION_ID,
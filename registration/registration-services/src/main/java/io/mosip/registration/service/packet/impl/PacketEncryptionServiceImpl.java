@@ -19,6 +19,7 @@ import io.mosip.registration.constants.AuditReferenceIdTypes;
 import io.mosip.registration.constants.Components;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.context.GlobalConfig;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.dao.AuditLogControlDAO;
 import io.mosip.registration.dao.RegistrationDAO;
@@ -102,8 +103,8 @@ public class PacketEncryptionServiceImpl extends BaseService implements PacketEn
 			LOGGER.info(LOG_PKT_ENCRYPTION, APPLICATION_NAME, APPLICATION_ID, "Packet encrypted successfully");
 
 			// Validate the size of the generated registration packet
-			long maxPacketSizeInBytes = Long.valueOf(
-					String.valueOf(ApplicationContext.map().get(RegistrationConstants.REG_PKT_SIZE))) * 1024 * 1024;
+			long maxPacketSizeInBytes = GlobalConfig.of(ApplicationContext.map())
+					.getNumber(RegistrationConstants.REG_PKT_SIZE) * 1024 * 1024;
 			if (encryptedPacket.length > maxPacketSizeInBytes) {
 				LOGGER.error(LOG_PKT_ENCRYPTION, APPLICATION_NAME, APPLICATION_ID,
 						String.format("%s --> %s",
@@ -164,9 +165,7 @@ public class PacketEncryptionServiceImpl extends BaseService implements PacketEn
 
 	private void validateInputData(final RegistrationDTO registration, final byte[] dataToBeEncrypted)
 			throws RegBaseCheckedException {
-		if (ApplicationContext.map().get(RegistrationConstants.REG_PKT_SIZE) == null
-				|| !String.valueOf(ApplicationContext.map().get(RegistrationConstants.REG_PKT_SIZE))
-						.matches(RegistrationConstants.NUMBER_REGEX)) {
+		if (GlobalConfig.of(ApplicationContext.map()).getNumber(RegistrationConstants.REG_PKT_SIZE) == null) {
 			throwRegBaseCheckedException(RegistrationExceptionConstants.REG_PACKET_SIZE_INVALID);
 		}
 
@@ -8,6 +8,7 @@ import static io.mosip.registration.exception.RegistrationExceptionConstants.REG
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -69,6 +70,7 @@ import io.mosip.registration.dto.packetmanager.DocumentDto;
 import io.mosip.registration.dto.packetmanager.metadata.BiometricsMetaInfoDto;
 import io.mosip.registration.dto.packetmanager.metadata.DocumentMetaInfoDTO;
 import io.mosip.registration.dto.response.SchemaDto;
+import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
@@ -151,6 +153,18 @@ public class PacketHandlerServiceImpl extends BaseService implements PacketHandl
 	@Value("${objectstore.packet.supervisor_biometrics_file_name}")
 	private String supervisorBiometricsFileName;
 
+	/** Number of audits read from the local DB at once while creating the packet */
+	@Value("${mosip.registration.audit.packet.page.size:500}")
+	private int auditPageSize;
+
+	/** Maximum number of audits added to a single packet */
+	@Value("${mosip.registration.audit.packet.max.count:5000}")
+	private int maxPacketAudits;
+
+	// Fix to resolve date format issue in reg-proc
+	private static final DateTimeFormatter AUDIT_DATE_FORMATTER = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -236,6 +250,8 @@ public class PacketHandlerServiceImpl extends BaseService implements PacketHandl
 
 			registrationDAO.save(filePath, registrationDTO);
 
+			saveAuditLogControl(registrationDTO);
+
 			SuccessResponseDTO successResponseDTO = new SuccessResponseDTO();
 			successResponseDTO.setCode("0000");
 			successResponseDTO.setMessage("Success");
@@ -596,43 +612,79 @@ public class PacketHandlerServiceImpl extends BaseService implements PacketHandl
 //	}
 
 	private void setAudits(RegistrationDTO registrationDTO) {
-		List<Audit> audits = auditDAO.getAudits(auditLogControlDAO.getLatestRegistrationAuditDates(),
-				registrationDTO.getRegistrationId());
-
 		List<Map<String, String>> auditList = new LinkedList<>();
 
-		for (Audit audit : audits) {
-
-			Map<String, String> auditMap = new LinkedHashMap<>();
-			// Fix to resolve date format issue in reg-proc
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-			auditMap.put("uuid", audit.getUuid());
-			auditMap.put("createdAt", String.valueOf(audit.getCreatedAt().format(formatter)));
-			auditMap.put("eventId", audit.getEventId());
-			auditMap.put("eventName", audit.getEventName());
-			auditMap.put("eventType", audit.getEventType());
-			auditMap.put("hostName", audit.getHostName());
-			auditMap.put("hostIp", audit.getHostIp());
-			auditMap.put("applicationId", audit.getApplicationId());
-			auditMap.put("applicationName", audit.getApplicationName());
-			auditMap.put("sessionUserId", audit.getSessionUserId());
-			auditMap.put("sessionUserName", audit.getSessionUserName());
-			auditMap.put("id", audit.getId());
-			auditMap.put("idType", audit.getIdType());
-			auditMap.put("createdBy", audit.getCreatedBy());
-			auditMap.put("moduleName", audit.getModuleName());
-			auditMap.put("moduleId", audit.getModuleId());
-			auditMap.put("description", audit.getDescription());
-
-			auditMap.put("actionTimeStamp", String.valueOf(audit.getActionTimeStamp().format(formatter)));
-
-			auditList.add(auditMap);
-		}
+		/* Only the audits logged after the last packet are read, page by page */
+		auditDAO.getAudits(auditLogControlDAO.getLatestRegistrationAuditDates(), registrationDTO.getRegistrationId(),
+				Math.max(1, auditPageSize), Math.max(1, maxPacketAudits), audits -> {
+					if (registrationDTO.getAuditLogStartTime() == null) {
+						registrationDTO.setAuditLogStartTime(Timestamp.valueOf(audits.get(0).getCreatedAt()));
+					}
+					Audit lastAudit = audits.get(audits.size() - 1);
+					registrationDTO.setAuditLogEndTime(Timestamp.valueOf(lastAudit.getCreatedAt()));
+					registrationDTO.setAuditLogEndUuid(lastAudit.getUuid());
+
+					for (Audit audit : audits) {
+						auditList.add(getAuditMap(audit));
+					}
+				});
+
+		LOGGER.info(LOG_PKT_HANLDER, APPLICATION_NAME, APPLICATION_ID,
+				"Audits added to packet : " + auditList.size());
 
 		packetWriter.addAudits(registrationDTO.getRegistrationId(), auditList, source.toUpperCase(),
 				registrationDTO.getRegistrationCategory().toUpperCase());
 	}
 
+	private Map<String, String> getAuditMap(Audit audit) {
+		Map<String, String> auditMap = new LinkedHashMap<>();
+		auditMap.put("uuid", audit.getUuid());
+		auditMap.put("createdAt", audit.getCreatedAt().format(AUDIT_DATE_FORMATTER));
+		auditMap.put("eventId", audit.getEventId());
+		auditMap.put("eventName", audit.getEventName());
+		auditMap.put("eventType", audit.getEventType());
+		auditMap.put("hostName", audit.getHostName());
+		auditMap.put("hostIp", audit.getHostIp());
+		auditMap.put("applicationId", audit.getApplicationId());
+		auditMap.put("applicationName", audit.getApplicationName());
+		auditMap.put("sessionUserId", audit.getSessionUserId());
+		auditMap.put("sessionUserName", audit.getSessionUserName());
+		auditMap.put("id", audit.getId());
+		auditMap.put("idType", audit.getIdType());
+		auditMap.put("createdBy", audit.getCreatedBy());
+		auditMap.put("moduleName", audit.getModuleName());
+		auditMap.put("moduleId", audit.getModuleId());
+		auditMap.put("description", audit.getDescription());
+		auditMap.put("actionTimeStamp", audit.getActionTimeStamp().format(AUDIT_DATE_FORMATTER));
+		return auditMap;
+	}
+
+	/**
+	 * Records the last audit added to the packet, so that the next packet carries
+	 * only the audits logged after it
+	 */
+	private void saveAuditLogControl(RegistrationDTO registrationDTO) {
+		if (registrationDTO.getAuditLogEndTime() == null) {
+			return;
+		}
+
+		try {
+			AuditLogControl auditLogControl = new AuditLogControl();
+			auditLogControl.setRegistrationId(registrationDTO.getRegistrationId());
+			auditLogControl.setAuditLogFromDateTime(registrationDTO.getAuditLogStartTime());
+			auditLogControl.setAuditLogToDateTime(registrationDTO.getAuditLogEndTime());
+			auditLogControl.setAuditLogToUuid(registrationDTO.getAuditLogEndUuid());
+			auditLogControl.setAuditLogSyncDateTime(Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+			auditLogControl.setCrDtime(Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+			auditLogControl.setCrBy(getUserIdFromSession());
+			auditLogControlDAO.save(auditLogControl);
+		} catch (RuntimeException runtimeException) {
+			/* The audits are added again to the next packet */
+			LOGGER.error(LOG_PKT_HANLDER, APPLICATION_NAME, APPLICATION_ID,
+					"Exception while saving audit log control " + ExceptionUtils.getStackTrace(runtimeException));
+		}
+	}
+
 	private void addRegisteredDevices(Map<String, String> metaInfoMap) throws RegBaseCheckedException {
 		List<DeviceMetaInfo> capturedRegisteredDevices = new ArrayList<DeviceMetaInfo>();
 		MosipDeviceSpecificationFactory.getDeviceRegistryInfo().forEach((deviceName, device) -> {
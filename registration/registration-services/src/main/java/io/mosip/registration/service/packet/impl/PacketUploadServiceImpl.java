@@ -7,12 +7,16 @@ import java.io.File;
 import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -41,6 +45,7 @@ import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.packet.PacketUploadService;
+import io.mosip.registration.util.common.BoundedExecutors;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
 
 /**
@@ -68,6 +73,20 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 	@Autowired
 	private AuditManagerService auditFactory;
 
+	/** Number of packets uploaded concurrently */
+	@Value("${mosip.registration.packet.upload.threads:3}")
+	private int uploadThreads;
+
+	/** Number of times the upload is retried when the connection fails */
+	@Value("${mosip.registration.packet.upload.retry.count:2}")
+	private int uploadRetryCount;
+
+	/** Wait before the first retry in milliseconds, doubled for the second retry and so on */
+	@Value("${mosip.registration.packet.upload.retry.delay:2000}")
+	private long uploadRetryDelay;
+
+	private ExecutorService uploadExecutor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -207,6 +226,12 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 
 	/**
 	 * Upload synced packets.
+	 * 
+	 * <p>
+	 * The packets are uploaded concurrently on the bounded upload pool, and the
+	 * status of each packet is saved as soon as its upload completes, so that an
+	 * interrupted upload resumes with the packets yet to be uploaded.
+	 * </p>
 	 *
 	 * @param syncedPackets
 	 *            the synced packets
@@ -218,84 +243,141 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 				"Syncing Packets:");
 		ResponseDTO responseDTO = new ResponseDTO();
 
-		List<PacketStatusDTO> packetUploadList = new ArrayList<>();
-
-		if (!syncedPackets.isEmpty()) {
-			for (PacketStatusDTO syncedPacket : syncedPackets) {
-
-				if (syncedPacket != null) {
-					String ackFileName = syncedPacket.getPacketPath();
-					int lastIndex = ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE);
-					String packetPath = ackFileName.substring(0, lastIndex);
-					File packet = FileUtils.getFile(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
-					try {
-						if (packet.exists()) {
-							LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-									APPLICATION_ID, "Uploading Packet : " + packet.getName());
-
-							ResponseDTO response = pushPacket(packet);
-
-							if (response.getSuccessResponseDTO() != null) {
-								LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Success : " + packet.getName());
-								syncedPacket.setPacketClientStatus(
-										RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
-								syncedPacket
-										.setUploadStatus(RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
-								syncedPacket.setPacketServerStatus(response.getSuccessResponseDTO().getMessage());
-								packetUploadList.add(syncedPacket);
-
-								setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, null);
-							} else if (response.getErrorResponseDTOs() != null) {
-
-								LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Failure : " + packet.getName());
-								setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-								responseDTO.setSuccessResponseDTO(null);
-								String errMessage = response.getErrorResponseDTOs().get(0).getMessage();
-								if (errMessage.contains(RegistrationConstants.PACKET_DUPLICATE)) {
-
-									syncedPacket.setPacketClientStatus(
-											RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
-									syncedPacket.setUploadStatus(
-											RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
-									packetUploadList.add(syncedPacket);
-
-								}
-							} else {
-								LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Failure : " + packet.getName());
-								syncedPacket
-										.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-								packetUploadList.add(syncedPacket);
-								setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-								responseDTO.setSuccessResponseDTO(null);
-							}
-						}
-					} catch (RegBaseCheckedException | URISyntaxException exception) {
-						LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_ERROR - PACKET_UPLOAD_SERVICE",
-								APPLICATION_NAME, APPLICATION_ID, "Error while pushing packets to the server"
-										+ exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-						syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-						packetUploadList.add(syncedPacket);
-						setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-						responseDTO.setSuccessResponseDTO(null);
-					} catch (RuntimeException runtimeException) {
-						LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_RUNTIME_ERROR - PACKET_UPLOAD_SERVICE",
-								APPLICATION_NAME, APPLICATION_ID,
-								"Run time error while connecting to the server" + runtimeException.getMessage()
-										+ ExceptionUtils.getStackTrace(runtimeException));
-
-						syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-						packetUploadList.add(syncedPacket);
-						setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-						responseDTO.setSuccessResponseDTO(null);
+		List<CompletableFuture<Boolean>> uploads = new ArrayList<>();
+		for (PacketStatusDTO syncedPacket : syncedPackets) {
+			if (syncedPacket != null) {
+				uploads.add(CompletableFuture.supplyAsync(() -> uploadSyncedPacket(syncedPacket),
+						getUploadExecutor()));
+			}
+		}
+
+		for (CompletableFuture<Boolean> upload : uploads) {
+			Boolean isUploaded = upload.join();
+			if (Boolean.TRUE.equals(isUploaded)) {
+				setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, null);
+			} else if (Boolean.FALSE.equals(isUploaded)) {
+				setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
+				responseDTO.setSuccessResponseDTO(null);
+			}
+		}
+		return responseDTO;
+	}
+
+	/**
+	 * Uploads the synced packet and saves its status.
+	 *
+	 * @param syncedPacket
+	 *            the synced packet
+	 * @return true if uploaded, false if failed and null if the packet is not
+	 *         found
+	 */
+	private Boolean uploadSyncedPacket(PacketStatusDTO syncedPacket) {
+		String ackFileName = syncedPacket.getPacketPath();
+		int lastIndex = ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE);
+		String packetPath = ackFileName.substring(0, lastIndex);
+		File packet = FileUtils.getFile(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
+		Boolean isUploaded = null;
+		boolean isStatusChanged = false;
+		try {
+			if (packet.exists()) {
+				LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
+						APPLICATION_ID, "Uploading Packet : " + packet.getName());
+
+				ResponseDTO response = pushPacketWithRetry(packet);
+
+				if (response.getSuccessResponseDTO() != null) {
+					LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
+							APPLICATION_ID, "Uploaded Success : " + packet.getName());
+					syncedPacket.setPacketClientStatus(
+							RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
+					syncedPacket
+							.setUploadStatus(RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
+					syncedPacket.setPacketServerStatus(response.getSuccessResponseDTO().getMessage());
+					isStatusChanged = true;
+					isUploaded = true;
+				} else if (response.getErrorResponseDTOs() != null) {
+
+					LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
+							APPLICATION_ID, "Uploaded Failure : " + packet.getName());
+					isUploaded = false;
+					String errMessage = response.getErrorResponseDTOs().get(0).getMessage();
+					if (errMessage.contains(RegistrationConstants.PACKET_DUPLICATE)) {
+
+						syncedPacket.setPacketClientStatus(
+								RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
+						syncedPacket.setUploadStatus(
+								RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
+						isStatusChanged = true;
 					}
+				} else {
+					LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
+							APPLICATION_ID, "Uploaded Failure : " + packet.getName());
+					syncedPacket
+							.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+					isStatusChanged = true;
+					isUploaded = false;
 				}
 			}
+		} catch (RegBaseCheckedException | URISyntaxException exception) {
+			LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_ERROR - PACKET_UPLOAD_SERVICE",
+					APPLICATION_NAME, APPLICATION_ID, "Error while pushing packets to the server"
+							+ exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+			syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+			isStatusChanged = true;
+			isUploaded = false;
+		} catch (RuntimeException runtimeException) {
+			LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_RUNTIME_ERROR - PACKET_UPLOAD_SERVICE",
+					APPLICATION_NAME, APPLICATION_ID,
+					"Run time error while connecting to the server" + runtimeException.getMessage()
+							+ ExceptionUtils.getStackTrace(runtimeException));
+
+			syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+			isStatusChanged = true;
+			isUploaded = false;
 		}
-		updateStatus(packetUploadList);
-		return responseDTO;
+
+		if (isStatusChanged) {
+			updateStatus(Collections.singletonList(syncedPacket));
+		}
+		return isUploaded;
+	}
+
+	/**
+	 * Pushes the packet, and pushes it again when the connection to the server
+	 * fails, waiting longer before every attempt
+	 *
+	 * @param packet
+	 *            the packet file
+	 * @return the {@link ResponseDTO} of the last attempt
+	 */
+	private ResponseDTO pushPacketWithRetry(File packet) throws URISyntaxException, RegBaseCheckedException {
+		int attempt = 0;
+		while (true) {
+			try {
+				return pushPacket(packet);
+			} catch (RegBaseUncheckedException regBaseUncheckedException) {
+				if (attempt >= uploadRetryCount || !RegistrationExceptionConstants.REG_PACKET_UPLOAD_ERROR
+						.getErrorCode().equals(regBaseUncheckedException.getErrorCode())) {
+					throw regBaseUncheckedException;
+				}
+				attempt++;
+				LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
+						"Retrying upload of packet : " + packet.getName() + " attempt : " + attempt);
+				try {
+					Thread.sleep(uploadRetryDelay * attempt);
+				} catch (InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+					throw regBaseUncheckedException;
+				}
+			}
+		}
+	}
+
+	private synchronized ExecutorService getUploadExecutor() {
+		if (uploadExecutor == null) {
+			uploadExecutor = BoundedExecutors.newDaemonExecutor("packet-upload", uploadThreads);
+		}
+		return uploadExecutor;
 	}
 
 	/*
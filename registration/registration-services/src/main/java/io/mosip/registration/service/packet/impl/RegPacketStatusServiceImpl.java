@@ -10,7 +10,6 @@ import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -20,6 +19,7 @@ import java.util.WeakHashMap;
 import org.assertj.core.util.Files;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -84,7 +84,11 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 
 	private static final Logger LOGGER = AppConfig.getLogger(RegPacketStatusServiceImpl.class);
 
-	private HashMap<String, Registration> registrationMap = new HashMap<>();
+	/**
+	 * Maximum packets whose status is read from server in one request
+	 */
+	@Value("${mosip.registration.packet.status.sync.chunk.size:500}")
+	private int packetStatusChunkSize;
 
 	/*
 	 * (non-Javadoc)
@@ -169,51 +173,66 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	}
 
 	/**
-	 * Get all registrationIDs for which the clientStatus is post-sync
+	 * Build the packet status request of the given registrations
 	 *
-	 * @return List<String> list of registrationId's required for packet status sync
-	 *         with server
+	 * @param packets the registrations, whose status has to be read from server
+	 * @return the {@link PacketStatusReaderDTO}
 	 */
-	private List<String> getPacketIds() {
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"getting packets by status post-sync has been ended");
-
-		List<Registration> registrationList = regPacketStatusDAO.getPacketIdsByStatusUploaded();
-
-		List<String> packetIds = new ArrayList<>();
-		for (Registration registration : registrationList) {
-			String registrationId = registration.getId();
-
-			registrationMap.put(registrationId, registration);
-			packetIds.add(registrationId);
+	private PacketStatusReaderDTO getPacketStatusRequest(List<Registration> packets) {
+		PacketStatusReaderDTO packetStatusReaderDTO = new PacketStatusReaderDTO();
+		packetStatusReaderDTO.setId(RegistrationConstants.PACKET_STATUS_READER_ID);
+		packetStatusReaderDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
+		packetStatusReaderDTO.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
+
+		List<RegistrationIdDTO> registrationIdDTOs = new ArrayList<>(packets.size());
+		for (Registration packet : packets) {
+			RegistrationIdDTO registrationIdDTO = new RegistrationIdDTO();
+			registrationIdDTO.setRegistrationId(packet.getId());
+			registrationIdDTOs.add(registrationIdDTO);
 		}
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"getting packets by status post-sync has been ended");
-		return packetIds;
+
+		packetStatusReaderDTO.setRequest(registrationIdDTOs);
+		return packetStatusReaderDTO;
 	}
 
 	/**
-	 * update status for all packets that are synced with server
+	 * update status for the packets of a chunk that are synced with server
 	 *
-	 * @param registrations list of registration entities which are represented as
-	 *                      LinkedHashMap which maps the attributes of registration
-	 *                      entity to their respective values that are obtained
-	 *                      after sync with server
+	 * @param packets               the registrations of the chunk, mapped by
+	 *                              registration id
+	 * @param registrationStatuses list of registration entities which are
+	 *                              represented as LinkedHashMap which maps the
+	 *                              attributes of registration entity to their
+	 *                              respective values that are obtained after sync
+	 *                              with server
 	 */
-	private void updatePacketIdsByServerStatus(List<LinkedHashMap<String, String>> registrationStatuses) {
+	private void updatePacketIdsByServerStatus(Map<String, Registration> packets,
+			List<LinkedHashMap<String, String>> registrationStatuses) {
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 				"packets status sync from server has been started");
 
 		try {
+			Map<String, Registration> updatedPackets = new LinkedHashMap<>();
+			Timestamp serverStatusTimestamp = new Timestamp(System.currentTimeMillis());
 			for (LinkedHashMap<String, String> registrationStatus : registrationStatuses) {
-				Registration registration = registrationMap
-						.get(registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID));
-				registration.setServerStatusCode(
-						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
-				registration.setServerStatusTimestamp(new Timestamp(System.currentTimeMillis()));
-
-				updateRegistration(registration,
-						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
+				String registrationId = registrationStatus
+						.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID);
+				Registration registration = packets.get(registrationId);
+				if (registration == null) {
+					LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+							"Status received for the packet not requested : " + registrationId);
+					continue;
+				}
+				String serverStatus = registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE);
+				registration.setServerStatusCode(serverStatus);
+				registration.setServerStatusTimestamp(serverStatusTimestamp);
+
+				addRegistrationTransaction(registration, serverStatus);
+				updatedPackets.put(registrationId, registration);
+			}
+
+			if (!updatedPackets.isEmpty()) {
+				regPacketStatusDAO.updateAll(new ArrayList<>(updatedPackets.values()));
 			}
 
 			LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
@@ -243,77 +262,65 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		ResponseDTO response = new ResponseDTO();
 
 		if (validateTriggerPoint(triggerPoint)) {
-			List<String> packetIds = getPacketIds();
-			LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-					"PacketIds for sync with server have been retrieved");
-
 			SuccessResponseDTO successResponse;
 
 			/* Validator response service API creation */
 			final String SERVICE_NAME = RegistrationConstants.PACKET_STATUS_SYNC_SERVICE_NAME;
 
-			PacketStatusReaderDTO packetStatusReaderDTO = new PacketStatusReaderDTO();
-			packetStatusReaderDTO.setId(RegistrationConstants.PACKET_STATUS_READER_ID);
-			packetStatusReaderDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
-			packetStatusReaderDTO.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
-
-			List<RegistrationIdDTO> registrationIdDTOs = new ArrayList<>();
-			for (String packetId : packetIds) {
-				RegistrationIdDTO registrationIdDTO = new RegistrationIdDTO();
-				registrationIdDTO.setRegistrationId(packetId);
-				registrationIdDTOs.add(registrationIdDTO);
-			}
+			int syncedPackets = 0;
+			try {
+				/* Status of the uploaded packets is read in chunks, the recently uploaded first */
+				List<Registration> packets = regPacketStatusDAO.getUploadedPackets(null, packetStatusChunkSize);
+				while (!packets.isEmpty()) {
+					LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+							"PacketIds for sync with server have been retrieved : " + packets.size());
 
-			packetStatusReaderDTO.setRequest(registrationIdDTOs);
+					Map<String, Registration> chunk = new LinkedHashMap<>();
+					packets.forEach(packet -> chunk.put(packet.getId(), packet));
 
-			try {
-				if (!packetIds.isEmpty()) {
 					/* Obtain RegistrationStatusDTO from service delegate util */
 					LinkedHashMap<String, Object> packetStatusResponse = (LinkedHashMap<String, Object>) serviceDelegateUtil
-							.post(SERVICE_NAME, packetStatusReaderDTO, triggerPoint);
+							.post(SERVICE_NAME, getPacketStatusRequest(packets), triggerPoint);
 					List<LinkedHashMap<String, String>> registrations = (List<LinkedHashMap<String, String>>) packetStatusResponse
 							.get(RegistrationConstants.RESPONSE);
-					if (registrations != null && !registrations.isEmpty()) {
-						/* update the status of packets after sync with server */
-						try {
-							updatePacketIdsByServerStatus(registrations);
-						} catch (RegBaseUncheckedException regBaseUncheckedException) {
-							LOGGER.error(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-									regBaseUncheckedException.getMessage()
-											+ ExceptionUtils.getStackTrace(regBaseUncheckedException));
-
-							setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
-							return response;
-						}
-						/* Create Success response */
-						successResponse = new SuccessResponseDTO();
-						successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
-						successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
-						Map<String, Object> otherAttributes = new WeakHashMap<>();
-						otherAttributes.put(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY, registrations);
-						successResponse.setOtherAttributes(otherAttributes);
-						response.setSuccessResponseDTO(successResponse);
-						LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-								"Success Response Created");
-					} else {
+					if (registrations == null || registrations.isEmpty()) {
 						/* Create Error response */
 						setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
 						return response;
 					}
-				} else {
-					/* If there are no uploaded packets to check the status from the server */
-					successResponse = new SuccessResponseDTO();
-					successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
-					successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
-					Map<String, Object> otherAttributes = new WeakHashMap<>();
-					/* sending empty success response as there are no packets to check status */
-					otherAttributes.put(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY,
-							RegistrationConstants.EMPTY);
-					successResponse.setOtherAttributes(otherAttributes);
-					response.setSuccessResponseDTO(successResponse);
-					LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-							"Success Response Created");
+					/* update the status of packets after sync with server */
+					try {
+						updatePacketIdsByServerStatus(chunk, registrations);
+					} catch (RegBaseUncheckedException regBaseUncheckedException) {
+						LOGGER.error(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+								regBaseUncheckedException.getMessage()
+										+ ExceptionUtils.getStackTrace(regBaseUncheckedException));
+
+						setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
+						return response;
+					}
+					syncedPackets += registrations.size();
+
+					if (packets.size() < packetStatusChunkSize) {
+						break;
+					}
+					/* Continue after the last packet of the chunk */
+					packets = regPacketStatusDAO.getUploadedPackets(packets.get(packets.size() - 1),
+							packetStatusChunkSize);
 				}
+
+				/* Create Success response */
+				successResponse = new SuccessResponseDTO();
+				successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
+				successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
+				Map<String, Object> otherAttributes = new WeakHashMap<>();
+				/* sending empty success response if there are no packets to check status */
+				otherAttributes.put(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY,
+						syncedPackets == 0 ? RegistrationConstants.EMPTY : syncedPackets);
+				successResponse.setOtherAttributes(otherAttributes);
+				response.setSuccessResponseDTO(successResponse);
+				LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+						"Success Response Created, packet statuses received : " + syncedPackets);
 			} catch (SocketTimeoutException | RegBaseCheckedException | IllegalArgumentException
 					| HttpClientErrorException | HttpServerErrorException | ResourceAccessException exception) {
 				LOGGER.error(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
@@ -347,10 +354,7 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		return true;
 	}
 
-	private Registration updateRegistration(final Registration registration, final String serverStatus) {
-
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"Delete Registration Packet started");
+	private void addRegistrationTransaction(final Registration registration, final String serverStatus) {
 
 		/* Get Registration Transaction List for each transaction */
 		List<RegistrationTransaction> transactionList = registration.getRegistrationTransaction();
@@ -371,12 +375,6 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		transactionList.add(registrationTxn);
 		registration.setRegistrationTransaction(transactionList);
 
-		Registration updatedRegistration = regPacketStatusDAO.update(registration);
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"Delete Registration Packet ended");
-
-		return updatedRegistration;
-
 	}
 
 	/*
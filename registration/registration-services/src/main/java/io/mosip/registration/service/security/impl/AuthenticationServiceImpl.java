@@ -13,6 +13,7 @@ import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.registration.constants.LoginMode;
 import io.mosip.registration.dto.LoginUserDTO;
 import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.AuthTokenUtilService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,12 +35,10 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationConstants;
-import io.mosip.registration.dao.UserDetailDAO;
 import io.mosip.registration.dto.AuthTokenDTO;
 import io.mosip.registration.dto.AuthenticationValidatorDTO;
 import io.mosip.registration.dto.UserDTO;
 import io.mosip.registration.dto.packetmanager.BiometricsDto;
-import io.mosip.registration.entity.UserBiometric;
 import io.mosip.registration.service.bio.BioService;
 import io.mosip.registration.service.login.LoginService;
 import io.mosip.registration.service.security.AuthenticationService;
@@ -67,15 +66,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	@Autowired
 	private BioAPIFactory bioAPIFactory;
 
-	@Autowired
-	private UserDetailDAO userDetailDAO;
-
 	@Autowired
 	private BioService bioService;
 
 	@Autowired
 	private AuthTokenUtilService authTokenUtilService;
 
+	@Autowired
+	private OperatorBiometricGallery operatorBiometricGallery;
+
 
 	/*
 	 * (non-Javadoc)
@@ -89,16 +88,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 				modality + " >> authValidator invoked.");
 		try {
 			BiometricType biometricType = BiometricType.fromValue(modality);
-			List<BIR> record = new ArrayList<>();
-			List<UserBiometric> userBiometrics = userDetailDAO.getUserSpecificBioDetails(userId, biometricType.value());
-			if (userBiometrics.isEmpty())
+			List<BIR> record = operatorBiometricGallery.getTemplates(userId, biometricType.value());
+			if (record.isEmpty())
 				return false;
-			userBiometrics.forEach(userBiometric -> {
-//				record.add(buildBir(userBiometric.getBioIsoImage(), biometricType));
-
-				record.add(bioService.buildBir(userBiometric.getUserBiometricId().getBioAttributeCode(),
-						userBiometric.getQualityScore(), userBiometric.getBioIsoImage()));
-			});
 
 			List<BIR> sample = new ArrayList<>(biometrics.size());
 			biometrics.forEach(biometricDto -> {
@@ -109,7 +101,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 			if (Objects.nonNull(bioProvider)) {
 				LOGGER.info("OPERATOR_AUTHENTICATION", APPLICATION_NAME, APPLICATION_ID,
 						modality + " >> Bioprovider instance found : " + bioProvider);
-				return bioProvider.verify(sample, record, biometricType, null);
+				return operatorBiometricGallery.verify(bioProvider, sample, record, biometricType);
 			}
 		} catch (BiometricException | RuntimeException e) {
 			LOGGER.error("REGISTRATION - OPERATOR_AUTHENTICATION", APPLICATION_NAME, APPLICATION_ID,
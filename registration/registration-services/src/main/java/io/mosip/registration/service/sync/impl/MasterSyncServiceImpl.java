@@ -67,7 +67,11 @@ import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.remap.CenterMachineReMapService;
 import io.mosip.registration.service.sync.MasterSyncService;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.mastersync.LocationHierarchyIndex;
 import io.mosip.registration.util.mastersync.MapperUtils;
+import io.mosip.registration.util.mastersync.MasterDataCache;
+import io.mosip.registration.validator.RegIdObjectMasterDataValidator;
 
 /**
  * It makes call to the external 'MASTER Sync' services to download the master
@@ -128,6 +132,24 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Autowired
 	private DocumentCategoryDAO documentCategoryDAO;
 
+	@Autowired
+	private MasterDataCache masterDataCache;
+
+	@Autowired
+	private LocationHierarchyIndex locationHierarchyIndex;
+
+	@Autowired
+	private ClientSettingSyncHelper clientSettingSyncHelper;
+
+	@Autowired
+	private RegIdObjectMasterDataValidator regIdObjectMasterDataValidator;
+
+	/** Master data entities of the cached lookups */
+	private static final String REASON_LIST = "ReasonList";
+	private static final String GENDER = "Gender";
+	private static final String DOCUMENT_CATEGORY = "DocumentCategory";
+	private static final String INDIVIDUAL_TYPE = "IndividualType";
+
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(MasterSyncServiceImpl.class);
 
@@ -207,17 +229,7 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	public List<GenericDto> findLocationByHierarchyCode(int hierarchyLevel, String langCode)
 			throws RegBaseCheckedException {
 
-		List<GenericDto> locationDto = new ArrayList<>();
-		List<Location> masterLocation = masterSyncDao.findLocationByLangCode(hierarchyLevel, langCode);
-
-		for (Location masLocation : masterLocation) {
-			GenericDto location = new GenericDto();
-			location.setCode(masLocation.getCode());
-			location.setName(masLocation.getName());
-			location.setLangCode(masLocation.getLangCode());
-			locationDto.add(location);
-		}
-		return locationDto;
+		return toGenericDtos(locationHierarchyIndex.getLocations(hierarchyLevel, langCode));
 	}
 
 	/**
@@ -231,17 +243,8 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Override
 	public List<GenericDto> findProvianceByHierarchyCode(String code, String langCode) throws RegBaseCheckedException {
 
-		List<GenericDto> locationDto = new ArrayList<>();
 		if (codeAndlangCodeNullCheck(code, langCode)) {
-			List<Location> masterLocation = masterSyncDao.findLocationByParentLocCode(code, langCode);
-
-			for (Location masLocation : masterLocation) {
-				GenericDto location = new GenericDto();
-				location.setCode(masLocation.getCode());
-				location.setName(masLocation.getName());
-				location.setLangCode(masLocation.getLangCode());
-				locationDto.add(location);
-			}
+			return toGenericDtos(locationHierarchyIndex.getChildren(code, langCode));
 		} else {
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					RegistrationConstants.CODE_AND_LANG_CODE_MANDATORY);
@@ -249,6 +252,17 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_CODE_AND_LANGCODE.getErrorCode(),
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_CODE_AND_LANGCODE.getErrorMessage());
 		}
+	}
+
+	private List<GenericDto> toGenericDtos(List<Location> masterLocation) {
+		List<GenericDto> locationDto = new ArrayList<>();
+		for (Location masLocation : masterLocation) {
+			GenericDto location = new GenericDto();
+			location.setCode(masLocation.getCode());
+			location.setName(masLocation.getName());
+			location.setLangCode(masLocation.getLangCode());
+			locationDto.add(location);
+		}
 		return locationDto;
 	}
 
@@ -263,25 +277,28 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Override
 	public List<ReasonListDto> getAllReasonsList(String langCode) throws RegBaseCheckedException {
 
-		List<ReasonListDto> reasonListResponse = new ArrayList<>();
 		if (langCodeNullCheck(langCode)) {
-			List<String> resonCantCode = new ArrayList<>();
-			// Fetting Reason Category
-			List<ReasonCategory> masterReasonCatogery = masterSyncDao.getAllReasonCatogery(langCode);
-			if (masterReasonCatogery != null && !masterReasonCatogery.isEmpty()) {
-				masterReasonCatogery.forEach(reason -> {
-					resonCantCode.add(reason.getCode());
+			return masterDataCache.get(REASON_LIST, langCode, null, () -> {
+				List<ReasonListDto> reasonListResponse = new ArrayList<>();
+				List<String> resonCantCode = new ArrayList<>();
+				// Fetting Reason Category
+				List<ReasonCategory> masterReasonCatogery = masterSyncDao.getAllReasonCatogery(langCode);
+				if (masterReasonCatogery != null && !masterReasonCatogery.isEmpty()) {
+					masterReasonCatogery.forEach(reason -> {
+						resonCantCode.add(reason.getCode());
+					});
+				}
+				// Fetching reason list based on lang_Code and rsncat_code
+				List<ReasonList> masterReasonList = masterSyncDao.getReasonList(langCode, resonCantCode);
+				masterReasonList.forEach(reasonList -> {
+					ReasonListDto reasonListDto = new ReasonListDto();
+					reasonListDto.setCode(reasonList.getCode());
+					reasonListDto.setName(reasonList.getName());
+					reasonListDto.setRsnCatCode(reasonList.getRsnCatCode());
+					reasonListDto.setLangCode(reasonList.getLangCode());
+					reasonListResponse.add(reasonListDto);
 				});
-			}
-			// Fetching reason list based on lang_Code and rsncat_code
-			List<ReasonList> masterReasonList = masterSyncDao.getReasonList(langCode, resonCantCode);
-			masterReasonList.forEach(reasonList -> {
-				ReasonListDto reasonListDto = new ReasonListDto();
-				reasonListDto.setCode(reasonList.getCode());
-				reasonListDto.setName(reasonList.getName());
-				reasonListDto.setRsnCatCode(reasonList.getRsnCatCode());
-				reasonListDto.setLangCode(reasonList.getLangCode());
-				reasonListResponse.add(reasonListDto);
+				return reasonListResponse;
 			});
 		} else {
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
@@ -290,7 +307,6 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_LANGCODE.getErrorCode(),
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_LANGCODE.getErrorMessage());
 		}
-		return reasonListResponse;
 
 	}
 
@@ -337,15 +353,18 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	 */
 	@Override
 	public List<GenericDto> getGenderDtls(String langCode) throws RegBaseCheckedException {
-		List<GenericDto> gendetDtoList = new ArrayList<>();
 		if (langCodeNullCheck(langCode)) {
-			List<Gender> masterDocuments = masterSyncDao.getGenderDtls(langCode);
-			masterDocuments.forEach(gender -> {
-				GenericDto comboBox = new GenericDto();
-				comboBox.setCode(gender.getCode().trim());
-				comboBox.setName(gender.getGenderName().trim());
-				comboBox.setLangCode(gender.getLangCode());
-				gendetDtoList.add(comboBox);
+			return masterDataCache.get(GENDER, langCode, null, () -> {
+				List<GenericDto> gendetDtoList = new ArrayList<>();
+				List<Gender> masterDocuments = masterSyncDao.getGenderDtls(langCode);
+				masterDocuments.forEach(gender -> {
+					GenericDto comboBox = new GenericDto();
+					comboBox.setCode(gender.getCode().trim());
+					comboBox.setName(gender.getGenderName().trim());
+					comboBox.setLangCode(gender.getLangCode());
+					gendetDtoList.add(comboBox);
+				});
+				return gendetDtoList;
 			});
 		} else {
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
@@ -354,7 +373,6 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_LANGCODE.getErrorCode(),
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_LANGCODE.getErrorMessage());
 		}
-		return gendetDtoList;
 	}
 
 	/**
@@ -369,32 +387,35 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Override
 	public List<DocumentCategoryDto> getDocumentCategories(String docCode, String langCode)
 			throws RegBaseCheckedException {
-		List<String> validDocuments = new ArrayList<>();
-		List<DocumentCategoryDto> documentsDTO = new ArrayList<>();
 		if (codeAndlangCodeNullCheck(docCode, langCode)) {
+			return masterDataCache.get(DOCUMENT_CATEGORY, langCode, docCode, () -> {
+				List<String> validDocuments = new ArrayList<>();
+				List<DocumentCategoryDto> documentsDTO = new ArrayList<>();
 
-			DocumentCategory documentCategory = documentCategoryDAO.getDocumentCategoryByCodeAndByLangCode(docCode,
-					langCode);
-			if (documentCategory != null && documentCategory.getIsActive()) {
+				DocumentCategory documentCategory = documentCategoryDAO.getDocumentCategoryByCodeAndByLangCode(docCode,
+						langCode);
+				if (documentCategory != null && documentCategory.getIsActive()) {
 
-				List<ValidDocument> masterValidDocuments = masterSyncDao.getValidDocumets(docCode);
-				masterValidDocuments.forEach(docs -> {
-					validDocuments.add(docs.getDocTypeCode());
-				});
+					List<ValidDocument> masterValidDocuments = masterSyncDao.getValidDocumets(docCode);
+					masterValidDocuments.forEach(docs -> {
+						validDocuments.add(docs.getDocTypeCode());
+					});
 
-				List<DocumentType> masterDocuments = masterSyncDao.getDocumentTypes(validDocuments, langCode);
+					List<DocumentType> masterDocuments = masterSyncDao.getDocumentTypes(validDocuments, langCode);
 
-				masterDocuments.forEach(document -> {
+					masterDocuments.forEach(document -> {
 
-					DocumentCategoryDto documents = new DocumentCategoryDto();
-					documents.setCode(document.getCode());
-					documents.setDescription(document.getDescription());
-					documents.setLangCode(document.getLangCode());
-					documents.setName(document.getName());
-					documentsDTO.add(documents);
+						DocumentCategoryDto documents = new DocumentCategoryDto();
+						documents.setCode(document.getCode());
+						documents.setDescription(document.getDescription());
+						documents.setLangCode(document.getLangCode());
+						documents.setName(document.getName());
+						documentsDTO.add(documents);
 
-				});
-			}
+					});
+				}
+				return documentsDTO;
+			});
 		} else {
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					RegistrationConstants.CODE_AND_LANG_CODE_MANDATORY);
@@ -402,7 +423,6 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_CODE_AND_LANGCODE.getErrorCode(),
 					RegistrationExceptionConstants.REG_MASTER_SYNC_SERVICE_IMPL_CODE_AND_LANGCODE.getErrorMessage());
 		}
-		return documentsDTO;
 	}
 
 	/**
@@ -414,18 +434,20 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	 */
 	@Override
 	public List<GenericDto> getIndividualType(String langCode) throws RegBaseCheckedException {
-		List<GenericDto> listOfIndividualDTO = new ArrayList<>();
+		return masterDataCache.get(INDIVIDUAL_TYPE, langCode, null, () -> {
+			List<GenericDto> listOfIndividualDTO = new ArrayList<>();
 
-		List<IndividualType> masterDocuments = masterSyncDao.getIndividulType(langCode);
+			List<IndividualType> masterDocuments = masterSyncDao.getIndividulType(langCode);
 
-		masterDocuments.forEach(individual -> {
-			GenericDto individualDto = new GenericDto();
-			individualDto.setName(individual.getName());
-			individualDto.setCode(individual.getIndividualTypeId().getCode());
-			individualDto.setLangCode(individual.getIndividualTypeId().getLangCode());
-			listOfIndividualDTO.add(individualDto);
+			masterDocuments.forEach(individual -> {
+				GenericDto individualDto = new GenericDto();
+				individualDto.setName(individual.getName());
+				individualDto.setCode(individual.getIndividualTypeId().getCode());
+				individualDto.setLangCode(individual.getIndividualTypeId().getLangCode());
+				listOfIndividualDTO.add(individualDto);
+			});
+			return listOfIndividualDTO;
 		});
-		return listOfIndividualDTO;
 	}
 
 	@Override
@@ -718,10 +740,18 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 				new TypeReference<SyncDataResponseDto>() {
 				});
 
-		String response = masterSyncDao.saveSyncData(syncDataResponseDto);
+		String response;
+		try {
+			response = masterSyncDao.saveSyncData(syncDataResponseDto);
+		} finally {
+			// the groups saved before a failure are committed as well
+			regIdObjectMasterDataValidator.refresh();
+		}
 
 		if (response.equals(RegistrationConstants.SUCCESS)) {
-			setSuccessResponse(responseDTO, RegistrationConstants.MASTER_SYNC_SUCCESS, null);
+			// number of inserted, updated, deactivated and unchanged rows
+			setSuccessResponse(responseDTO, RegistrationConstants.MASTER_SYNC_SUCCESS,
+					clientSettingSyncHelper.getSyncChanges());
 			SyncTransaction syncTransaction = syncManager.createSyncTransaction(
 					RegistrationConstants.JOB_EXECUTION_SUCCESS, RegistrationConstants.JOB_EXECUTION_SUCCESS,
 					triggerPoint, masterSyncDtls);
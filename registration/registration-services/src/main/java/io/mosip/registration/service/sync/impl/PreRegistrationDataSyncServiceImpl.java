@@ -4,6 +4,7 @@ import java.io.File;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -15,12 +16,15 @@ import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -55,6 +59,7 @@ import io.mosip.registration.jobs.SyncManager;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.external.PreRegZipHandlingService;
 import io.mosip.registration.service.sync.PreRegistrationDataSyncService;
+import io.mosip.registration.util.common.BoundedExecutors;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 
 /**
@@ -91,6 +96,28 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(PreRegistrationDataSyncServiceImpl.class);
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final long RESULT_POLL_MILLIS = 200;
+
+	private static final int PROGRESS_LOG_INTERVAL = 50;
+
+	/** Upper bound of the packets downloaded in parallel */
+	@Value("${mosip.registration.prereg.download.max.threads:8}")
+	private int maxDownloadThreads;
+
+	/** Number of threads encrypting and storing the downloaded packets */
+	@Value("${mosip.registration.prereg.encrypt.threads:2}")
+	private int encryptThreads;
+
+	/** Number of pre-registrations inserted in a single batch */
+	@Value("${mosip.registration.prereg.batch.size:50}")
+	private int batchSize;
+
+	private ExecutorService downloadExecutor;
+
+	private ExecutorService encryptExecutor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -123,12 +150,12 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 						.post(RegistrationConstants.GET_PRE_REGISTRATION_IDS, preRegistrationDataSyncDTO, syncJobId);
 				TypeReference<MainResponseDTO<LinkedHashMap<String, Object>>> ref = new TypeReference<MainResponseDTO<LinkedHashMap<String, Object>>>() {
 				};
-				MainResponseDTO<LinkedHashMap<String, Object>> mainResponseDTO = new ObjectMapper()
+				MainResponseDTO<LinkedHashMap<String, Object>> mainResponseDTO = OBJECT_MAPPER
 						.readValue(new JSONObject(response).toString(), ref);
 				if (isResponseNotEmpty(mainResponseDTO)) {
 
-					PreRegistrationIdsDTO preRegistrationIdsDTO = new ObjectMapper().readValue(
-							new JSONObject(mainResponseDTO.getResponse()).toString(), PreRegistrationIdsDTO.class);
+					PreRegistrationIdsDTO preRegistrationIdsDTO = OBJECT_MAPPER
+							.convertValue(mainResponseDTO.getResponse(), PreRegistrationIdsDTO.class);
 
 					Map<String, String> preRegIds = (Map<String, String>) preRegistrationIdsDTO.getPreRegistrationIds();
 
@@ -186,37 +213,329 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	 * @param preRegIds   the pre-registration id's
 	 */
 	private void getPreRegistrationPackets(String syncJobId, ResponseDTO responseDTO, Map<String, String> preRegIds) {
-		ExecutorService executorServiceForPreReg = Executors.newFixedThreadPool(5);
+		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+				"Fetching Pre-Registration ID's in parallel mode started");
+
+		PreRegDownloadPipeline pipeline = new PreRegDownloadPipeline(syncJobId, preRegIds.size());
 		try {
-			LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
-					RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-					"Fetching Pre-Registration ID's in parallel mode started");
 			/* Get Packets Using pre registration ID's */
 			for (Entry<String, String> preRegDetail : preRegIds.entrySet()) {
-				executorServiceForPreReg.execute(
-						new Runnable() {
-								public void run() {
-										preRegDetail.setValue(preRegDetail.getValue().contains("Z") ? preRegDetail.getValue() : preRegDetail.getValue() + "Z");
-					
-										getPreRegistration(responseDTO, preRegDetail.getKey(), syncJobId, Timestamp.from(Instant.parse(preRegDetail.getValue())));
-								}
-						}
-				);
+				pipeline.submit(preRegDetail.getKey(), preRegDetail.getValue());
 			}
-			
-			executorServiceForPreReg.shutdown();
-			executorServiceForPreReg.awaitTermination(500, TimeUnit.SECONDS);
-		} catch (Exception interruptedException) {
-			executorServiceForPreReg.shutdown();
+			pipeline.complete();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
 			LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
 					RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 					"Error Fetching Pre-Registration ID's in parallel mode " + interruptedException);
+			pipeline.flush();
 		}
+
+		if (pipeline.failed > 0 || pipeline.submitted > pipeline.completed) {
+			setErrorResponse(responseDTO, RegistrationConstants.PRE_REG_TO_GET_PACKET_ERROR, null);
+		} else {
+			setSuccessResponse(responseDTO, RegistrationConstants.PRE_REG_SUCCESS_MESSAGE, null);
+		}
+
 		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
 				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 				"Fetching Pre-Registration ID's in parallel mode completed");
 	}
 
+	private synchronized ExecutorService getDownloadExecutor() {
+		if (downloadExecutor == null) {
+			downloadExecutor = BoundedExecutors.newDaemonExecutor("prereg-download", maxDownloadThreads);
+		}
+		return downloadExecutor;
+	}
+
+	private synchronized ExecutorService getEncryptExecutor() {
+		if (encryptExecutor == null) {
+			encryptExecutor = BoundedExecutors.newDaemonExecutor("prereg-encrypt", encryptThreads);
+		}
+		return encryptExecutor;
+	}
+
+	/**
+	 * Downloads the packet of the pre-registration, the packet is not downloaded
+	 * when the local copy is up to date.
+	 *
+	 * @param syncJobId            the sync job id
+	 * @param preRegistrationId    the pre registration id
+	 * @param lastUpdatedTimeStamp the last updated time stamp
+	 * @return the download result
+	 */
+	@SuppressWarnings("unchecked")
+	private PreRegDownload fetchPreRegPacket(String syncJobId, String preRegistrationId,
+			Timestamp lastUpdatedTimeStamp) {
+		PreRegDownload download = new PreRegDownload(preRegistrationId, lastUpdatedTimeStamp);
+		try {
+			download.existing = preRegistrationDAO.get(preRegistrationId);
+
+			if (!isFetchToBeTriggered(true, isUpdated(lastUpdatedTimeStamp, download.existing, false), true)) {
+				return download;
+			}
+
+			Map<String, String> requestParamMap = new HashMap<>();
+			requestParamMap.put(RegistrationConstants.PRE_REGISTRATION_ID, preRegistrationId);
+
+			LinkedHashMap<String, Object> mainResponseDTO = (LinkedHashMap<String, Object>) serviceDelegateUtil
+					.get(RegistrationConstants.GET_PRE_REGISTRATION, requestParamMap, true, syncJobId);
+
+			if (null != mainResponseDTO && null != mainResponseDTO.get(RegistrationConstants.RESPONSE)) {
+				download.archive = OBJECT_MAPPER.convertValue(mainResponseDTO.get(RegistrationConstants.RESPONSE),
+						PreRegArchiveDTO.class);
+			} else {
+				/* the packet is neither available in db nor in the REST service */
+				download.failed = download.existing == null;
+			}
+		} catch (ResourceAccessException | HttpServerErrorException | java.io.IOException exception) {
+			logDownloadError(preRegistrationId, exception);
+			download.failed = true;
+			download.overloaded = true;
+		} catch (RegBaseCheckedException | RuntimeException exception) {
+			logDownloadError(preRegistrationId, exception);
+			download.failed = true;
+		}
+		return download;
+	}
+
+	/**
+	 * Encrypts and stores the downloaded packet, the packet bytes are released
+	 * once stored.
+	 *
+	 * @param download the download result
+	 * @return the download result
+	 */
+	private PreRegDownload encryptPreRegPacket(PreRegDownload download) {
+		if (download.archive == null) {
+			return download;
+		}
+		try {
+			download.preRegistrationDTO = preRegZipHandlingService
+					.encryptAndSavePreRegPacket(download.preRegistrationId, download.archive.getZipBytes());
+		} catch (RegBaseCheckedException | RuntimeException exception) {
+			logDownloadError(download.preRegistrationId, exception);
+			download.failed = true;
+		}
+		download.archive.setZipBytes(null);
+		return download;
+	}
+
+	private void logDownloadError(String preRegistrationId, Exception exception) {
+		LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+				"Error downloading Pre-Registration " + preRegistrationId + " : " + exception.getMessage()
+						+ ExceptionUtils.getStackTrace(exception));
+	}
+
+	/**
+	 * Outcome of the download of a single pre-registration packet
+	 */
+	private static class PreRegDownload {
+
+		private final String preRegistrationId;
+		private final Timestamp lastUpdatedTimeStamp;
+		private PreRegistrationList existing;
+		private PreRegArchiveDTO archive;
+		private PreRegistrationDTO preRegistrationDTO;
+		private boolean failed;
+		private boolean overloaded;
+
+		private PreRegDownload(String preRegistrationId, Timestamp lastUpdatedTimeStamp) {
+			this.preRegistrationId = preRegistrationId;
+			this.lastUpdatedTimeStamp = lastUpdatedTimeStamp;
+		}
+	}
+
+	/**
+	 * Downloads the packets of one sync run in three stages: the packets are
+	 * fetched on the download pool, encrypted and stored on the encrypt pool and
+	 * the pre-registrations are inserted in batches by the calling thread. The
+	 * number of packets in flight is adjusted to the health of the server.
+	 */
+	private final class PreRegDownloadPipeline {
+
+		private final String syncJobId;
+		private final int total;
+		private final long startTime = System.currentTimeMillis();
+		private final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(maxDownloadThreads);
+		private final BlockingQueue<PreRegDownload> results = new LinkedBlockingQueue<>();
+		private final List<PreRegistrationList> batch = new ArrayList<>();
+		private SyncTransaction syncTransaction;
+		private int submitted;
+		private int completed;
+		private int downloaded;
+		private int skipped;
+		private int failed;
+
+		private PreRegDownloadPipeline(String syncJobId, int total) {
+			this.syncJobId = syncJobId;
+			this.total = total;
+		}
+
+		private void submit(String preRegistrationId, String lastUpdatedTime) throws InterruptedException {
+			Timestamp lastUpdatedTimeStamp;
+			try {
+				lastUpdatedTimeStamp = Timestamp
+						.from(Instant.parse(lastUpdatedTime.contains("Z") ? lastUpdatedTime : lastUpdatedTime + "Z"));
+			} catch (RuntimeException exception) {
+				logDownloadError(preRegistrationId, exception);
+				failed++;
+				return;
+			}
+
+			while (!concurrencyLimit.tryAcquire(RESULT_POLL_MILLIS)) {
+				drain();
+			}
+			submitted++;
+			CompletableFuture
+					.supplyAsync(() -> fetchPreRegPacket(syncJobId, preRegistrationId, lastUpdatedTimeStamp),
+							getDownloadExecutor())
+					.thenApplyAsync(PreRegistrationDataSyncServiceImpl.this::encryptPreRegPacket, getEncryptExecutor())
+					.whenComplete((download, throwable) -> {
+						PreRegDownload result = download;
+						if (throwable != null) {
+							result = new PreRegDownload(preRegistrationId, lastUpdatedTimeStamp);
+							result.failed = true;
+						}
+						concurrencyLimit.release(!result.overloaded);
+						results.add(result);
+					});
+			drain();
+		}
+
+		private void complete() throws InterruptedException {
+			while (completed < submitted) {
+				PreRegDownload download = results.poll(RESULT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (download != null) {
+					persist(download);
+				}
+			}
+			flush();
+			logProgress();
+		}
+
+		private void drain() {
+			PreRegDownload download;
+			while ((download = results.poll()) != null) {
+				persist(download);
+			}
+		}
+
+		private void persist(PreRegDownload download) {
+			completed++;
+			if (download.failed) {
+				failed++;
+			} else if (download.preRegistrationDTO == null) {
+				skipped++;
+			} else {
+				try {
+					PreRegistrationList preRegistrationList = preparePreRegistration(getSyncTransaction(),
+							download.preRegistrationDTO, download.lastUpdatedTimeStamp);
+					preRegistrationList.setAppointmentDate(
+							DateUtils.parseUTCToDate(download.archive.getAppointmentDate(), "yyyy-MM-dd"));
+					if (download.existing != null) {
+						preRegistrationList.setId(download.existing.getId());
+						preRegistrationList.setUpdBy(getUserIdFromSession());
+						preRegistrationList.setUpdDtimes(new Timestamp(System.currentTimeMillis()));
+					}
+					batch.add(preRegistrationList);
+				} catch (RuntimeException exception) {
+					logDownloadError(download.preRegistrationId, exception);
+					failed++;
+				}
+				if (batch.size() >= Math.max(1, batchSize)) {
+					flush();
+				}
+			}
+			if (completed % PROGRESS_LOG_INTERVAL == 0) {
+				logProgress();
+			}
+		}
+
+		private void flush() {
+			if (batch.isEmpty()) {
+				return;
+			}
+			try {
+				preRegistrationDAO.saveAll(batch);
+				downloaded += batch.size();
+			} catch (RuntimeException exception) {
+				LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+						RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+						"Error saving Pre-Registrations : " + exception.getMessage()
+								+ ExceptionUtils.getStackTrace(exception));
+				failed += batch.size();
+			}
+			batch.clear();
+		}
+
+		/**
+		 * One sync transaction is recorded for all the packets of the run
+		 */
+		private SyncTransaction getSyncTransaction() {
+			if (syncTransaction == null) {
+				syncTransaction = syncManager.createSyncTransaction(RegistrationConstants.RETRIEVED_PRE_REG_ID,
+						RegistrationConstants.RETRIEVED_PRE_REG_ID, RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM,
+						syncJobId);
+			}
+			return syncTransaction;
+		}
+
+		private void logProgress() {
+			long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+			LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+					RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+					String.format(
+							"Pre-Registration download progress : %d/%d completed, %d downloaded, %d skipped, %d failed, "
+									+ "%d in parallel, %d ms, %.2f packets/s",
+							completed, total, downloaded, skipped, failed, concurrencyLimit.getLimit(), elapsed,
+							completed * 1000.0 / elapsed));
+		}
+	}
+
+	/**
+	 * Limit of the packets downloaded in parallel, which grows by one on every
+	 * successful download and is halved when the server is unreachable or
+	 * overloaded
+	 */
+	private static final class AdaptiveConcurrencyLimit {
+
+		private final int maxLimit;
+		private int limit;
+		private int inFlight;
+
+		private AdaptiveConcurrencyLimit(int maxLimit) {
+			this.maxLimit = Math.max(1, maxLimit);
+			this.limit = Math.max(1, this.maxLimit / 2);
+		}
+
+		private synchronized boolean tryAcquire(long timeoutMillis) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + timeoutMillis;
+			while (inFlight >= limit) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				wait(remaining);
+			}
+			inFlight++;
+			return true;
+		}
+
+		private synchronized void release(boolean isSuccess) {
+			inFlight--;
+			limit = isSuccess ? Math.min(maxLimit, limit + 1) : Math.max(1, limit / 2);
+			notifyAll();
+		}
+
+		private synchronized int getLimit() {
+			return limit;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -315,10 +634,8 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 				if (null != mainResponseDTO
 						&& null != mainResponseDTO.get(RegistrationConstants.RESPONSE)) {
 
-					PreRegArchiveDTO preRegArchiveDTO = new ObjectMapper().readValue(
-							new ObjectMapper().writeValueAsString(
-									mainResponseDTO.get(RegistrationConstants.RESPONSE)),
-							PreRegArchiveDTO.class);
+					PreRegArchiveDTO preRegArchiveDTO = OBJECT_MAPPER
+							.convertValue(mainResponseDTO.get(RegistrationConstants.RESPONSE), PreRegArchiveDTO.class);
 
 					decryptedPacket = preRegArchiveDTO.getZipBytes();
 
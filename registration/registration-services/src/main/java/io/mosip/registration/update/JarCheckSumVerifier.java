@@ -0,0 +1,194 @@
+package io.mosip.registration.update;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.Set;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+
+/**
+ * Verifies the check sum of the jars against the manifest. The check sums of
+ * the verified jars are shared with the launcher, so that the jars unchanged
+ * since the last check are not hashed again. They are kept in a folder
+ * readable only by the current user, and are not used when the file can be
+ * modified by other users.
+ *
+ * @since 1.1.4
+ */
+public class JarCheckSumVerifier {
+
+	private static final String CHECK_SUM_FOLDER = "checksums";
+
+	private static final String CHECK_SUM_FILE = "jar-checksums";
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	private static final String SEPARATOR = ":";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final Logger LOGGER = AppConfig.getLogger(JarCheckSumVerifier.class);
+
+	private final File checkSumFolder;
+
+	private final File checkSumFile;
+
+	private final Properties verifiedJars = new Properties();
+
+	/**
+	 * @param fullCheck
+	 *            true to hash all the jars, ignoring the remembered check sums
+	 * @param launcherFolder
+	 *            the folder of the launcher, the check sums are remembered in a
+	 *            folder under it readable only by the current user
+	 */
+	public JarCheckSumVerifier(boolean fullCheck, File launcherFolder) {
+		this.checkSumFolder = new File(launcherFolder, CHECK_SUM_FOLDER);
+		this.checkSumFile = new File(checkSumFolder, CHECK_SUM_FILE);
+		if (!fullCheck && checkSumFile.exists() && isProtected()) {
+			try (InputStream inputStream = new FileInputStream(checkSumFile)) {
+				verifiedJars.load(inputStream);
+			} catch (IOException | IllegalArgumentException exception) {
+				LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+				verifiedJars.clear();
+			}
+		}
+	}
+
+	/**
+	 * @param jarFile
+	 *            the jar
+	 * @param checkSum
+	 *            check sum of the jar from the manifest
+	 * @return true, if the jar matches the check sum
+	 * @throws IOException
+	 *             if the jar could not be read
+	 */
+	public boolean isCheckSumValid(File jarFile, String checkSum) throws IOException {
+		if (checkSum == null) {
+			return false;
+		}
+
+		String jarKey = jarFile.toPath().toAbsolutePath().normalize().toString();
+		BasicFileAttributes attributes = Files.readAttributes(jarFile.toPath(), BasicFileAttributes.class);
+		String verifiedJar = attributes.size() + SEPARATOR + attributes.lastModifiedTime().toMillis() + SEPARATOR
+				+ attributes.creationTime().toMillis() + SEPARATOR + checkSum;
+
+		if (verifiedJar.equalsIgnoreCase(verifiedJars.getProperty(jarKey))) {
+			return true;
+		}
+
+		if (checkSum.equalsIgnoreCase(getCheckSum(jarFile))) {
+			verifiedJars.setProperty(jarKey, verifiedJar);
+			return true;
+		}
+
+		verifiedJars.remove(jarKey);
+		return false;
+	}
+
+	/**
+	 * Saves the check sums of the verified jars for the next check
+	 */
+	public void save() {
+		File tempFile = new File(checkSumFolder, CHECK_SUM_FILE + ".tmp");
+		try {
+			createProtectedFolder(checkSumFolder);
+			try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+				verifiedJars.store(outputStream, "Verified jars");
+			}
+			if (isPosix()) {
+				Files.setPosixFilePermissions(tempFile.toPath(), PosixFilePermissions.fromString("rw-------"));
+			}
+			Files.move(tempFile.toPath(), checkSumFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ioException) {
+			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+		}
+	}
+
+	/**
+	 * @return false if the check sum file or its folder can be written by other
+	 *         users, so that a jar could be replaced along with its check sum
+	 */
+	private boolean isProtected() {
+		if (!isPosix()) {
+			return true;
+		}
+		try {
+			if (isWritableByOthers(checkSumFolder.toPath()) || isWritableByOthers(checkSumFile.toPath())) {
+				LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+						"Ignoring " + checkSumFile + ", writable by other users");
+				return false;
+			}
+			return true;
+		} catch (IOException ioException) {
+			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+			return false;
+		}
+	}
+
+	private static boolean isWritableByOthers(Path path) throws IOException {
+		Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path);
+		return permissions.contains(PosixFilePermission.GROUP_WRITE)
+				|| permissions.contains(PosixFilePermission.OTHERS_WRITE);
+	}
+
+	private static boolean isPosix() {
+		return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	}
+
+	/**
+	 * Creates the folder readable only by the current user
+	 */
+	private static void createProtectedFolder(File folder) throws IOException {
+		Files.createDirectories(folder.toPath());
+		if (isPosix()) {
+			Files.setPosixFilePermissions(folder.toPath(), PosixFilePermissions.fromString("rwx------"));
+		} else {
+			folder.setReadable(false, false);
+			folder.setReadable(true, true);
+			folder.setWritable(false, false);
+			folder.setWritable(true, true);
+			folder.setExecutable(false, false);
+			folder.setExecutable(true, true);
+		}
+	}
+
+	private static String getCheckSum(File jarFile) throws IOException {
+		try (InputStream inputStream = new FileInputStream(jarFile)) {
+			MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				messageDigest.update(buffer, 0, read);
+			}
+			return String.format("%064X", new BigInteger(1, messageDigest.digest()));
+		} catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IOException(noSuchAlgorithmException);
+		}
+	}
+}
@@ -14,13 +14,18 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
@@ -28,7 +33,6 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.registration.context.ApplicationContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -47,6 +51,8 @@ import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.config.GlobalParamService;
+import io.mosip.registration.util.common.BoundedExecutors;
+import io.mosip.registration.util.restclient.RestClientUtil;
 
 /**
  * This class will update the application based on comapring the versions of the
@@ -62,6 +68,8 @@ public class SoftwareUpdateHandler extends BaseService {
 
 	private static String SLASH = "/";
 
+	private static final int CHECK_SUM_THREADS = 4;
+
 	private String manifestFile = "MANIFEST.MF";
 
 	@Value("${mosip.reg.rollback.path}")
@@ -73,6 +81,13 @@ public class SoftwareUpdateHandler extends BaseService {
 	@Value("${mosip.reg.xml.file.url}")
 	private String serverMosipXmlFileUrl;
 
+	@Value("${mosip.reg.jar.checksum.full.check:false}")
+	private boolean fullCheckSum;
+
+	/** Folder of the launcher, holding the check sums of the verified jars */
+	@Value("${mosip.reg.launcher.folder:#{systemProperties['user.home']}/.mosipreg/launcher}")
+	private String launcherFolder;
+
 	private static String libFolder = "lib/";
 	private String binFolder = "bin/";
 
@@ -354,36 +369,60 @@ public class SoftwareUpdateHandler extends BaseService {
 			throws IOException, io.mosip.kernel.core.exception.IOException {
 
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars started");
-		for (String jarFile : checkableJars) {
-
-			String folder = jarFile.contains(mosip) ? binFolder : libFolder;
-
-			File jarInFolder = new File(folder + jarFile);
-
-			if (!jarInFolder.exists()) {
 
-				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
-						"Downloading jar : " + jarFile + " started");
-				// Download Jar
-				Files.copy(getInputStreamOfJar(version, jarFile), jarInFolder.toPath());
+		Manifest manifest = (currentVersion.equals(version)) ? localManifest : serverManifest;
+		JarCheckSumVerifier checkSumVerifier = new JarCheckSumVerifier(fullCheckSum, new File(launcherFolder));
+		ExecutorService executorService = BoundedExecutors.newDaemonExecutor("JAR_CHECKSUM",
+				Math.min(CHECK_SUM_THREADS, Runtime.getRuntime().availableProcessors()));
+		try {
+			// check sums of the existing jars are verified in parallel
+			Map<String, Future<Boolean>> checkedJars = new LinkedHashMap<>();
+			for (String jarFile : checkableJars) {
+				File jarInFolder = getJarInFolder(jarFile);
+				checkedJars.put(jarFile, executorService.submit(
+						() -> jarInFolder.exists() && isCheckSumValid(checkSumVerifier, jarInFolder, manifest)));
+			}
 
-			} else if ((!isCheckSumValid(jarInFolder,
-					(currentVersion.equals(version)) ? localManifest : serverManifest))) {
+			for (Entry<String, Future<Boolean>> checkedJar : checkedJars.entrySet()) {
+				if (isCheckedJarValid(checkedJar.getValue())) {
+					continue;
+				}
 
-				FileUtils.forceDelete(jarInFolder);
+				File jarInFolder = getJarInFolder(checkedJar.getKey());
+				if (jarInFolder.exists()) {
+					FileUtils.forceDelete(jarInFolder);
+				}
 
 				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
-						"Downloading jar : " + jarFile + " started");
+						"Downloading jar : " + checkedJar.getKey() + " started");
 
 				// Download Jar
-				Files.copy(getInputStreamOfJar(version, jarFile), jarInFolder.toPath());
+				Files.copy(getInputStreamOfJar(version, checkedJar.getKey()), jarInFolder.toPath());
 			}
-
+		} finally {
+			executorService.shutdownNow();
+			checkSumVerifier.save();
 		}
 
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars completed");
 	}
 
+	private File getJarInFolder(String jarFile) {
+		String folder = jarFile.contains(mosip) ? binFolder : libFolder;
+		return new File(folder + jarFile);
+	}
+
+	private boolean isCheckedJarValid(Future<Boolean> checkedJar) throws IOException {
+		try {
+			return checkedJar.get();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			throw new IOException(interruptedException);
+		} catch (ExecutionException executionException) {
+			throw new IOException(executionException.getCause());
+		}
+	}
+
 	private InputStream getInputStreamOfJar(String version, String jarName) throws IOException {
 		return getInputStreamOf(getURL(serverRegClientURL) + version + SLASH + libFolder + jarName);
 
@@ -457,21 +496,20 @@ public class SoftwareUpdateHandler extends BaseService {
 		this.latestVersion = latestVersion;
 	}
 
-	private boolean isCheckSumValid(File jarFile, Manifest manifest) {
+	private boolean isCheckSumValid(JarCheckSumVerifier checkSumVerifier, File jarFile, Manifest manifest) {
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 				"Checking of checksum started for jar :" + jarFile.getName());
-		String checkSum;
 		try {
-			checkSum = HMACUtils2.digestAsPlainText(Files.readAllBytes(jarFile.toPath()));
-
 			// Get Check sum
 			String manifestCheckSum = getCheckSum(jarFile.getName(), manifest);
 
+			boolean isValid = checkSumVerifier.isCheckSumValid(jarFile, manifestCheckSum);
+
 			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					"Checking of checksum completed for jar :" + jarFile.getName());
-			return checkSum.equals(manifestCheckSum);
+			return isValid;
 
-		} catch (IOException | NoSuchAlgorithmException ioException) {
+		} catch (IOException ioException) {
 			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
 			return false;
@@ -486,6 +524,13 @@ public class SoftwareUpdateHandler extends BaseService {
 	}
 
 	private InputStream getInputStreamOf(String url) throws IOException {
+		// the update server is trusted in the same way as the other server calls
+		try {
+			RestClientUtil.turnOffSslChecking();
+		} catch (NoSuchAlgorithmException | KeyManagementException exception) {
+			throw new IOException(exception);
+		}
+
 		URLConnection connection = new URL(url).openConnection();
 
 		connection.setConnectTimeout(
@@ -0,0 +1,45 @@
+package io.mosip.registration.util.common;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the bounded thread pools used by the background jobs of the
+ * registration client
+ *
+ * @since 1.1.4
+ */
+public final class BoundedExecutors {
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private BoundedExecutors() {
+
+	}
+
+	/**
+	 * Bounded pool of daemon threads, which are released when the pool stays
+	 * idle, so that an unused pool holds no threads
+	 *
+	 * @param threadNamePrefix
+	 *            prefix of the thread names
+	 * @param threads
+	 *            maximum number of threads, at least one thread is used
+	 * @return the {@link ExecutorService}
+	 */
+	public static ExecutorService newDaemonExecutor(String threadNamePrefix, int threads) {
+		int poolSize = Math.max(1, threads);
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -0,0 +1,171 @@
+package io.mosip.registration.util.common;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+import io.mosip.kernel.core.cbeffutil.entity.BIR;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.dao.UserDetailDAO;
+import io.mosip.registration.entity.UserBiometric;
+import io.mosip.registration.service.bio.BioService;
+
+/**
+ * Gallery of the operator biometric templates, held as the {@link BIR} passed
+ * to the bio SDK. The templates of an operator and modality are built on the
+ * first authentication, and the whole gallery is dropped when the user details
+ * or the operator biometrics are saved.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class OperatorBiometricGallery {
+
+	private static final Logger LOGGER = AppConfig.getLogger(OperatorBiometricGallery.class);
+
+	private static final String OPERATOR_AUTHENTICATION = "OPERATOR_AUTHENTICATION";
+
+	@Autowired
+	private UserDetailDAO userDetailDAO;
+
+	@Autowired
+	private BioService bioService;
+
+	/** Matches on the calling thread by default, as the bio SDK may not be thread safe */
+	@Value("${mosip.registration.operator.auth.match.threads:1}")
+	private int matchThreads;
+
+	private final AtomicReference<Map<String, List<BIR>>> templates = new AtomicReference<>(
+			new ConcurrentHashMap<>());
+
+	private ExecutorService matchExecutor;
+
+	/**
+	 * @param userId
+	 *            the operator
+	 * @param bioType
+	 *            the modality, case insensitive
+	 * @return the active templates of the operator, empty if the operator is not
+	 *         onboarded for the modality
+	 */
+	public List<BIR> getTemplates(String userId, String bioType) {
+		Map<String, List<BIR>> gallery = templates.get();
+		String key = userId + ":" + bioType.toLowerCase(Locale.ROOT);
+
+		List<BIR> records = gallery.get(key);
+		if (records == null) {
+			List<UserBiometric> userBiometrics = userDetailDAO.getUserSpecificBioDetails(userId, bioType);
+			List<BIR> birs = new ArrayList<>(userBiometrics.size());
+			userBiometrics.forEach(userBiometric -> birs.add(bioService.buildBir(
+					userBiometric.getUserBiometricId().getBioAttributeCode(), userBiometric.getQualityScore(),
+					userBiometric.getBioIsoImage())));
+			records = Collections.unmodifiableList(birs);
+			// built into the gallery of this lookup, which is dropped if the templates were saved meanwhile
+			List<BIR> galleryRecords = gallery.putIfAbsent(key, records);
+			if (galleryRecords != null) {
+				records = galleryRecords;
+			}
+		}
+		return records;
+	}
+
+	/**
+	 * Matches the captured sample against the templates of the operator. A
+	 * single sample is matched against partitions of the templates in parallel,
+	 * and the first match ends the matching of the other partitions. Several
+	 * samples are matched together against all the templates, as the bio SDK
+	 * decides on them as a whole.
+	 *
+	 * @param bioProvider
+	 *            the bio SDK provider of the modality
+	 * @param sample
+	 *            the captured biometrics
+	 * @param records
+	 *            the templates of the operator
+	 * @param biometricType
+	 *            the modality
+	 * @return true if the sample matches the templates
+	 * @throws RuntimeException
+	 *             the failure of the bio SDK, when no partition matched
+	 */
+	public boolean verify(iBioProviderApi bioProvider, List<BIR> sample, List<BIR> records,
+			BiometricType biometricType) {
+		int partitions = Math.min(matchThreads, records.size());
+		if (sample.size() != 1 || partitions <= 1) {
+			return bioProvider.verify(sample, records, biometricType, null);
+		}
+
+		CompletionService<Boolean> completionService = new ExecutorCompletionService<>(getMatchExecutor());
+		List<Future<Boolean>> matches = new ArrayList<>(partitions);
+		int partitionSize = (records.size() + partitions - 1) / partitions;
+		for (int from = 0; from < records.size(); from += partitionSize) {
+			List<BIR> partition = records.subList(from, Math.min(from + partitionSize, records.size()));
+			matches.add(completionService.submit(() -> bioProvider.verify(sample, partition, biometricType, null)));
+		}
+
+		RuntimeException failure = null;
+		try {
+			for (int completed = 0; completed < matches.size(); completed++) {
+				try {
+					if (Boolean.TRUE.equals(completionService.take().get())) {
+						return true;
+					}
+				} catch (ExecutionException executionException) {
+					// another partition may still match, the failure is thrown if none does
+					LOGGER.error(OPERATOR_AUTHENTICATION, APPLICATION_NAME, APPLICATION_ID,
+							ExceptionUtils.getStackTrace(executionException.getCause()));
+					if (failure == null) {
+						failure = executionException.getCause() instanceof RuntimeException
+								? (RuntimeException) executionException.getCause()
+								: new IllegalStateException(executionException.getCause());
+					}
+				}
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		} finally {
+			matches.forEach(match -> match.cancel(true));
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+		return false;
+	}
+
+	/**
+	 * Drops all the templates, they are built again on the next authentication
+	 */
+	public void invalidate() {
+		templates.set(new ConcurrentHashMap<>());
+
+		LOGGER.info(OPERATOR_AUTHENTICATION, APPLICATION_NAME, APPLICATION_ID, "Operator biometric gallery invalidated");
+	}
+
+	private synchronized ExecutorService getMatchExecutor() {
+		if (matchExecutor == null) {
+			matchExecutor = BoundedExecutors.newDaemonExecutor("operator-auth-match", matchThreads);
+		}
+		return matchExecutor;
+	}
+}
@@ -0,0 +1,196 @@
+package io.mosip.registration.util.common;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Graph of dependent tasks. Each task is started once all the tasks it depends
+ * on are completed, so that the independent tasks run concurrently. A failed
+ * task is retried, and the tasks depending on it are not started.
+ *
+ * @since 1.1.4
+ */
+public class TaskGraph {
+
+	private static final Logger LOGGER = AppConfig.getLogger(TaskGraph.class);
+
+	/**
+	 * Task of the graph
+	 */
+	@FunctionalInterface
+	public interface Task {
+
+		void run() throws Exception;
+	}
+
+	private final String loggerId;
+
+	private final Map<String, TaskNode> tasks = new LinkedHashMap<>();
+
+	private int retries;
+
+	private long retryDelayMillis;
+
+	private Predicate<Exception> retryable = exception -> true;
+
+	private Set<String> completedTasks = Collections.emptySet();
+
+	private Consumer<String> completionListener = taskName -> {
+	};
+
+	/**
+	 * @param loggerId
+	 *            logger id of the task timings and failures
+	 */
+	public TaskGraph(String loggerId) {
+		this.loggerId = loggerId;
+	}
+
+	/**
+	 * @param taskName
+	 *            name of the task
+	 * @param task
+	 *            the task
+	 * @param dependencies
+	 *            names of the tasks to be completed before the task, which are
+	 *            already added to the graph
+	 * @return the {@link TaskGraph}
+	 */
+	public TaskGraph addTask(String taskName, Task task, String... dependencies) {
+		for (String dependency : dependencies) {
+			if (!tasks.containsKey(dependency)) {
+				throw new IllegalArgumentException("Task " + taskName + " depends on unknown task " + dependency);
+			}
+		}
+		tasks.put(taskName, new TaskNode(taskName, task, Arrays.asList(dependencies)));
+		return this;
+	}
+
+	/**
+	 * @param retries
+	 *            number of retries of a failed task
+	 * @param retryDelayMillis
+	 *            delay before the first retry, doubled on each retry
+	 * @param retryable
+	 *            true for the failures to be retried
+	 * @return the {@link TaskGraph}
+	 */
+	public TaskGraph withRetries(int retries, long retryDelayMillis, Predicate<Exception> retryable) {
+		this.retries = retries;
+		this.retryDelayMillis = retryDelayMillis;
+		this.retryable = retryable;
+		return this;
+	}
+
+	/**
+	 * @param completedTasks
+	 *            tasks completed by an earlier execution, which are not run again
+	 * @param completionListener
+	 *            notified with the name of each task completed by this execution
+	 * @return the {@link TaskGraph}
+	 */
+	public TaskGraph withCheckpoints(Set<String> completedTasks, Consumer<String> completionListener) {
+		this.completedTasks = completedTasks;
+		this.completionListener = completionListener;
+		return this;
+	}
+
+	/**
+	 * Runs the tasks, and waits for all the started tasks to end
+	 *
+	 * @param executor
+	 *            runs the tasks
+	 * @throws Exception
+	 *             failure of the first failed task, in the order the tasks were
+	 *             added
+	 */
+	public void execute(ExecutorService executor) throws Exception {
+		Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+		for (TaskNode node : tasks.values()) {
+			if (completedTasks.contains(node.taskName)) {
+				LOGGER.info(loggerId, APPLICATION_NAME, APPLICATION_ID,
+						node.taskName + " task skipped, completed earlier");
+				futures.put(node.taskName, CompletableFuture.completedFuture(null));
+				continue;
+			}
+			CompletableFuture<?>[] dependencies = node.dependencies.stream().map(futures::get)
+					.toArray(CompletableFuture[]::new);
+			futures.put(node.taskName, CompletableFuture.allOf(dependencies).thenRunAsync(() -> run(node), executor));
+		}
+
+		Throwable failure = null;
+		for (CompletableFuture<Void> future : futures.values()) {
+			try {
+				future.join();
+			} catch (CompletionException | CancellationException exception) {
+				if (failure == null) {
+					failure = exception.getCause() == null ? exception : exception.getCause();
+				}
+			}
+		}
+		if (failure instanceof Exception) {
+			throw (Exception) failure;
+		} else if (failure != null) {
+			throw (Error) failure;
+		}
+	}
+
+	private void run(TaskNode node) {
+		long start = System.currentTimeMillis();
+		for (int attempt = 0;; attempt++) {
+			try {
+				node.task.run();
+				LOGGER.info(loggerId, APPLICATION_NAME, APPLICATION_ID,
+						node.taskName + " task completed in (ms) : " + (System.currentTimeMillis() - start)
+								+ (attempt > 0 ? ", retries : " + attempt : ""));
+				completionListener.accept(node.taskName);
+				return;
+			} catch (Exception exception) {
+				if (attempt >= retries || !retryable.test(exception)) {
+					LOGGER.error(loggerId, APPLICATION_NAME, APPLICATION_ID, node.taskName + " task failed in (ms) : "
+							+ (System.currentTimeMillis() - start) + ", retries : " + attempt);
+					throw new CompletionException(exception);
+				}
+				LOGGER.error(loggerId, APPLICATION_NAME, APPLICATION_ID,
+						node.taskName + " task failed, retrying : " + exception.getMessage());
+				try {
+					Thread.sleep(retryDelayMillis << attempt);
+				} catch (InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+					throw new CompletionException(exception);
+				}
+			}
+		}
+	}
+
+	private static final class TaskNode {
+
+		private final String taskName;
+
+		private final Task task;
+
+		private final List<String> dependencies;
+
+		private TaskNode(String taskName, Task task, List<String> dependencies) {
+			this.taskName = taskName;
+			this.task = task;
+			this.dependencies = dependencies;
+		}
+	}
+}
@@ -11,7 +11,13 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -50,6 +56,20 @@ public class RegistrationAppHealthCheckUtil {
 
 	public static String mosipHostNamePlaceHolder = "${mosip.hostname}";
 
+	private static final String HEALTH_CHECK_URL = "mosip.reg.healthcheck.url";
+	private static final String HEALTH_CHECK_INTERVAL = "mosip.reg.healthcheck.interval";
+	private static final String HEALTH_CHECK_TIMEOUT = "mosip.reg.healthcheck.timeout";
+
+	/** The spring properties, loaded once */
+	private static Properties keys;
+
+	/** Network status found by the last probe, null until the first probe */
+	private static volatile Boolean networkAvailable;
+
+	private static ScheduledExecutorService networkMonitor;
+
+	private static final List<Consumer<Boolean>> NETWORK_STATUS_LISTENERS = new CopyOnWriteArrayList<>();
+
 	static {
 		systemInfo = new SystemInfo();
 		operatingSystem = systemInfo.getOperatingSystem();
@@ -66,34 +86,127 @@ public class RegistrationAppHealthCheckUtil {
 	 * This method checks the Internet connectivity across the application.
 	 * 
 	 * <p>
-	 * Creates a {@link HttpURLConnection} and opens a communications link to the
-	 * resource referenced by this URL. If the connection is established
-	 * successfully, this method will return true which indicates Internet Access
-	 * available, otherwise, it will return false, indicating Internet Access not
-	 * available.
+	 * The connectivity is probed in the background at the configured interval,
+	 * and this method returns the status found by the last probe without waiting
+	 * on the network. The first call probes the network itself and starts the
+	 * background monitor.
 	 * </p>
 	 *
 	 * @return true, if is network available and false, if it is not available.
 	 */
 	public static boolean isNetworkAvailable() {
+		Boolean isNetworkAvailable = networkAvailable;
+		if (isNetworkAvailable == null) {
+			synchronized (RegistrationAppHealthCheckUtil.class) {
+				if (networkAvailable == null) {
+					refreshNetworkStatus();
+				}
+				startNetworkMonitor();
+			}
+			isNetworkAvailable = networkAvailable;
+		}
+		return isNetworkAvailable;
+	}
+
+	/**
+	 * Probes the Internet connectivity now, and notifies the listeners if the
+	 * status has changed.
+	 * 
+	 * <p>
+	 * Creates a {@link HttpURLConnection} to the health check URL. If the
+	 * connection is established successfully, the network is available.
+	 * </p>
+	 *
+	 * @return true, if is network available and false, if it is not available.
+	 */
+	public static boolean refreshNetworkStatus() {
 		LOGGER.info("REGISTRATION - REGISTRATION APP HEALTHCHECK UTIL - ISNETWORKAVAILABLE", APPLICATION_NAME,
 				APPLICATION_ID, "Registration Network Checker had been called.");
 
-		try (InputStream keyStream = DaoConfig.class.getClassLoader().getResourceAsStream("spring.properties")) {
-
-			Properties keys = new Properties();
-			keys.load(keyStream);
-
-			defaultHost = keys.getProperty("mosip.hostname");
-			return checkServiceAvailability(keys.getProperty("mosip.reg.healthcheck.url"));
-		} catch (IOException exception) {
+		boolean isNetworkAvailable = false;
+		try {
+			Properties properties = getProperties();
+			isNetworkAvailable = checkServiceAvailability(properties.getProperty(HEALTH_CHECK_URL),
+					Integer.parseInt(properties.getProperty(HEALTH_CHECK_TIMEOUT, "10000")));
+		} catch (IOException | RuntimeException exception) {
 			LOGGER.error("REGISTRATION - REGISTRATIONAPPHEALTHCHECKUTIL - ISNETWORKAVAILABLE" + false, APPLICATION_NAME,
 					APPLICATION_ID, "No Internet Access." + ExceptionUtils.getStackTrace(exception));
-			return false;
+		}
+		updateNetworkStatus(isNetworkAvailable);
+		return isNetworkAvailable;
+	}
+
+	/**
+	 * Adds the listener notified with the new network status every time the
+	 * status changes. The listeners are notified on the thread which probed the
+	 * network.
+	 *
+	 * @param listener
+	 *            the listener of the network status
+	 */
+	public static void addNetworkStatusListener(Consumer<Boolean> listener) {
+		NETWORK_STATUS_LISTENERS.add(listener);
+	}
+
+	/**
+	 * Removes the listener of the network status.
+	 *
+	 * @param listener
+	 *            the listener of the network status
+	 */
+	public static void removeNetworkStatusListener(Consumer<Boolean> listener) {
+		NETWORK_STATUS_LISTENERS.remove(listener);
+	}
+
+	private static void updateNetworkStatus(boolean isNetworkAvailable) {
+		Boolean previousStatus = networkAvailable;
+		networkAvailable = isNetworkAvailable;
+		if (previousStatus == null || previousStatus != isNetworkAvailable) {
+			LOGGER.info("REGISTRATION - REGISTRATIONAPPHEALTHCHECKUTIL - ISNETWORKAVAILABLE", APPLICATION_NAME,
+					APPLICATION_ID, "Network status changed to available : " + isNetworkAvailable);
+			for (Consumer<Boolean> listener : NETWORK_STATUS_LISTENERS) {
+				try {
+					listener.accept(isNetworkAvailable);
+				} catch (RuntimeException runtimeException) {
+					LOGGER.error("REGISTRATION - REGISTRATIONAPPHEALTHCHECKUTIL - ISNETWORKAVAILABLE",
+							APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(runtimeException));
+				}
+			}
+		}
+	}
 
+	private static synchronized void startNetworkMonitor() {
+		if (networkMonitor == null) {
+			long interval = 30;
+			try {
+				interval = Math.max(1, Long.parseLong(getProperties().getProperty(HEALTH_CHECK_INTERVAL, "30")));
+			} catch (IOException | RuntimeException exception) {
+				LOGGER.error("REGISTRATION - REGISTRATIONAPPHEALTHCHECKUTIL - ISNETWORKAVAILABLE", APPLICATION_NAME,
+						APPLICATION_ID, ExceptionUtils.getStackTrace(exception));
+			}
+
+			networkMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "network-monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			networkMonitor.scheduleWithFixedDelay(RegistrationAppHealthCheckUtil::refreshNetworkStatus, interval,
+					interval, TimeUnit.SECONDS);
 		}
 	}
 
+	private static synchronized Properties getProperties() throws IOException {
+		if (keys == null) {
+			try (InputStream keyStream = DaoConfig.class.getClassLoader().getResourceAsStream("spring.properties")) {
+				Properties properties = new Properties();
+				properties.load(keyStream);
+				defaultHost = properties.getProperty("mosip.hostname");
+				keys = properties;
+			}
+		}
+		return keys;
+	}
+
 	/**
 	 * This method checks the service availability.
 	 * 
@@ -110,7 +223,12 @@ public class RegistrationAppHealthCheckUtil {
 	 * @return true, if connection is available and false, if it is not available.
 	 */
 	public static boolean checkServiceAvailability(String serviceUrl) {
+		return checkServiceAvailability(serviceUrl, 10000);
+	}
+
+	private static boolean checkServiceAvailability(String serviceUrl, int timeout) {
 		boolean isNWAvailable = false;
+		HttpURLConnection connection = null;
 		try {
 			serviceUrl = prepareURLByHostName(serviceUrl);
 
@@ -124,8 +242,9 @@ public class RegistrationAppHealthCheckUtil {
 			// List<Proxy> proxyList = ProxySelector.getDefault().select(new
 			// URI(url.toString()));
 			// Proxy proxy = proxyList.get(0);
-			HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-			connection.setConnectTimeout(10000);
+			connection = (HttpURLConnection) url.openConnection();
+			connection.setConnectTimeout(timeout);
+			connection.setReadTimeout(timeout);
 			connection.connect();
 
 			if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
@@ -140,6 +259,10 @@ public class RegistrationAppHealthCheckUtil {
 		} catch (Exception exception) {
 			LOGGER.error("REGISTRATION - REGISTRATIONAPPHEALTHCHECKUTIL - ISNETWORKAVAILABLE" + isNWAvailable,
 					APPLICATION_NAME, APPLICATION_ID, "No Internet Access." + ExceptionUtils.getStackTrace(exception));
+		} finally {
+			if (connection != null) {
+				connection.disconnect();
+			}
 		}
 		return isNWAvailable;
 	}
@@ -147,6 +270,12 @@ public class RegistrationAppHealthCheckUtil {
 	public static String getHostName() {
 		String hostname = System.getenv("mosip.hostname");
 		if(hostname == null || hostname.isEmpty()) {
+			try {
+				getProperties();
+			} catch (IOException ioException) {
+				LOGGER.error(LoggerConstants.LOG_SERVICE_DELEGATE_UTIL_PREPARE_POST, APPLICATION_NAME, APPLICATION_ID,
+						ExceptionUtils.getStackTrace(ioException));
+			}
 			hostname = defaultHost;
 		}
 		LOGGER.debug(LoggerConstants.LOG_SERVICE_DELEGATE_UTIL_PREPARE_POST, APPLICATION_NAME, APPLICATION_ID,
@@ -5,11 +5,19 @@ import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYN
 import static io.mosip.registration.constants.LoggerConstants.LOG_REG_SCHEMA_SYNC;
 import static io.mosip.registration.constants.RegistrationConstants.*;
 
-import java.io.IOException;
 import java.io.SyncFailedException;
 import java.util.*;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.kernel.core.util.CryptoUtil;
@@ -17,14 +25,22 @@ import io.mosip.registration.dao.IdentitySchemaDao;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.response.SchemaDto;
 import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.util.common.BoundedExecutors;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.mastersync.MasterDataChangeDetector.EntityChanges;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
-import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -88,6 +104,14 @@ public class ClientSettingSyncHelper {
 	
 	private static final String ENTITY_PACKAGE_NAME = "io.mosip.registration.entity.";	
 	private static final String FIELD_TYPE_DYNAMIC = "dynamic";
+	private static final String FIELD_IS_ACTIVE = "isActive";
+	private static final String SYNC_CHANGES_INSERTED = "inserted";
+	private static final String SYNC_CHANGES_UPDATED = "updated";
+	private static final String SYNC_CHANGES_DEACTIVATED = "deactivated";
+	private static final String SYNC_CHANGES_UNCHANGED = "unchanged";
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	/** Decryption of the entities already saved in this sync */
+	private static final CompletableFuture<byte[]> SAVED_DATA = CompletableFuture.completedFuture(null);
 		
 	/** Object for Sync Biometric Attribute Repository. */
 	@Autowired
@@ -264,6 +288,46 @@ public class ClientSettingSyncHelper {
 
 	@Autowired
 	private IdentitySchemaDao identitySchemaDao;
+
+	@Autowired
+	private MasterDataCache masterDataCache;
+
+	@Autowired
+	private LocationHierarchyIndex locationHierarchyIndex;
+
+	@Autowired
+	private MasterDataChangeDetector masterDataChangeDetector;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/** Number of threads decrypting the synced data */
+	@Value("${mosip.registration.mastersync.decrypt.threads:2}")
+	private int decryptThreads;
+
+	/** Number of threads building the entities */
+	@Value("${mosip.registration.mastersync.parser.threads:4}")
+	private int parserThreads;
+
+	/** Number of threads saving the entity groups */
+	@Value("${mosip.registration.mastersync.writer.threads:2}")
+	private int writerThreads;
+
+	/** Number of entities saved together */
+	@Value("${mosip.registration.mastersync.batch.size:500}")
+	private int batchSize;
+
+	private ExecutorService decryptExecutor;
+
+	private ExecutorService parserExecutor;
+
+	private ExecutorService writerExecutor;
+
+	/** Number of inserted, updated, deactivated and unchanged rows of the last sync */
+	private final Map<String, Object> syncChanges = new LinkedHashMap<>();
 		
 	private static final Map<String, String> ENTITY_CLASS_NAMES = new HashMap<String, String>();
 	
@@ -290,28 +354,49 @@ public class ClientSettingSyncHelper {
 	/**
 	 * Save the SyncDataResponseDto 
 	 * 
+	 * <p>
+	 * The entity groups are synced in parallel. The synced data of a group and of
+	 * the next group is decrypted on the decrypt pool while the group is saved,
+	 * so that the decrypted data of at most two groups per writer thread is held
+	 * in memory. Entities are built on the parser pool, and each group is saved
+	 * in one transaction on the bounded writer pool once the groups it depends on
+	 * are saved.
+	 * </p>
+	 * 
 	 * @param syncDataResponseDto
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	public String saveClientSettings(SyncDataResponseDto syncDataResponseDto) throws RegBaseUncheckedException {
 		long start = System.currentTimeMillis();
+		Map<String, CompletableFuture<byte[]>> decryptedData = new ConcurrentHashMap<>();
+		resetSyncChanges();
 		try {
-			List<CompletableFuture> futures = new ArrayList<CompletableFuture>();
-			futures.add(handleDeviceSync(syncDataResponseDto));
-			futures.add(handleMachineSync(syncDataResponseDto));
-			futures.add(handleRegistrationCenterSync(syncDataResponseDto));
-			futures.add(handleAppDetailSync(syncDataResponseDto));
-			futures.add(handleTemplateSync(syncDataResponseDto));
-			futures.add(handleDocumentSync(syncDataResponseDto));
-			futures.add(handleIdSchemaPossibleValuesSync(syncDataResponseDto));
-			futures.add(handleMisellaneousSync1(syncDataResponseDto));
-			futures.add(handleMisellaneousSync2(syncDataResponseDto));
-			futures.add(handleDynamicFieldSync(syncDataResponseDto));
-			futures.add(syncSchema("System"));
-
-			CompletableFuture array [] = new CompletableFuture[futures.size()];
-			CompletableFuture<Void> future = CompletableFuture.allOf(futures.toArray(array));
+			List<SyncEntityGroup> syncEntityGroups = getSyncEntityGroups();
+			Map<String, SyncDataBaseDto> syncData = getSyncDataByEntityName(syncDataResponseDto);
+			// each group decrypts the next group ahead while it is saved
+			decryptAhead(syncEntityGroups.get(0), syncData, decryptedData);
+
+			Map<String, CompletableFuture<Void>> groupFutures = new LinkedHashMap<>();
+			for (int index = 0; index < syncEntityGroups.size(); index++) {
+				SyncEntityGroup syncEntityGroup = syncEntityGroups.get(index);
+				SyncEntityGroup nextGroup = index + 1 < syncEntityGroups.size() ? syncEntityGroups.get(index + 1)
+						: null;
+				groupFutures.put(syncEntityGroup.getName(),
+						submitEntityGroup(syncEntityGroup, nextGroup, syncData, decryptedData, groupFutures));
+			}
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>(groupFutures.values());
+			futures.add(submitDynamicFieldSync(syncDataResponseDto));
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					syncSchema("System");
+				} catch (RegBaseCheckedException | SyncFailedException exception) {
+					throw new CompletionException(exception);
+				}
+			}, getParserExecutor()));
+
+			CompletableFuture<Void> future = CompletableFuture
+					.allOf(futures.toArray(new CompletableFuture[futures.size()]));
 
 			try {
 				future.join();
@@ -320,282 +405,557 @@ public class ClientSettingSyncHelper {
 			}
 
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
-					"Complete master sync completed in (ms) : " + (System.currentTimeMillis() - start));
+					"Complete master sync completed in (ms) : " + (System.currentTimeMillis() - start) + " "
+						+ getSyncChanges());
 			return RegistrationConstants.SUCCESS;
 		} catch (Throwable e) {	
 			throw new RegBaseUncheckedException(RegistrationConstants.MASTER_SYNC_EXCEPTION + RegistrationConstants.FAILURE,
 					e.getMessage());
+		} finally {
+			// data of the groups not saved due to a failure is not decrypted anymore
+			decryptedData.values().forEach(future -> future.cancel(false));
+			// the groups saved before a failure are committed as well
+			masterDataCache.invalidate();
+			locationHierarchyIndex.invalidate();
+			masterDataChangeDetector.save();
 		}
 	}
 	
 	/**
 	 * creating meta data for building the entities from SyncDataBaseDto
 	 * 
-	 * @param syncDataBaseDto
-	 * @return
-	 * @throws Exception
+	 * <p>
+	 * The decrypted json array is read one row at a time, and the built entities
+	 * of the changed rows are handed over to the chunk consumer in chunks of the
+	 * configured batch size.
+	 * </p>
+	 * 
+	 * @param entityName
+	 * @param data
+	 *            the decrypted json array, null if the entity is not synced
+	 * @param entityChanges
+	 *            detects the unchanged rows, which are not built
+	 * @param chunkConsumer
+	 *            consumer of the built entities
+	 * @throws SyncFailedException
 	 */
-	private List buildEntities(SyncDataBaseDto syncDataBaseDto) throws SyncFailedException {	
-		try {		
-			List<Object> entities = new ArrayList<Object>();
-			if(syncDataBaseDto == null || syncDataBaseDto.getData() == null || syncDataBaseDto.getData().isEmpty())
-				return entities;
+	private void buildEntities(String entityName, byte[] data, EntityChanges entityChanges,
+			EntityChunkConsumer chunkConsumer) throws SyncFailedException {
+		try {
+			if (data == null)
+				return;
 
 			LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Building entity of type : " +
-					syncDataBaseDto.getEntityName());
+					entityName);
+
+			Class entityClass = getEntityClass(entityName);
+			int chunkSize = Math.max(1, batchSize);
+			List<List<Object>> chunk = new ArrayList<>(1);
+			chunk.add(new ArrayList<>(chunkSize));
+
+			readJsonRows(data, row -> {
+				JSONObject jsonObject = new JSONObject(row);
+				Object entity = MetaDataUtils.setCreateJSONObjectToMetaData(jsonObject, entityClass);
+				if (!entityChanges.isChanged(row, entity, jsonObject.optBoolean(FIELD_IS_ACTIVE, true))) {
+					return;
+				}
 
-			byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
-			JSONArray jsonArray = new JSONArray(new String(data));
+				chunk.get(0).add(entity);
+				if (chunk.get(0).size() == chunkSize) {
+					chunkConsumer.accept(chunk.get(0));
+					chunk.set(0, new ArrayList<>(chunkSize));
+				}
+			});
 
-			for(int i =0; i < jsonArray.length(); i++) {
-				JSONObject jsonObject = new JSONObject(jsonArray.getString(i));
-				Object entity = MetaDataUtils.setCreateJSONObjectToMetaData(jsonObject, getEntityClass(syncDataBaseDto.getEntityName()));
-				entities.add(entity);
+			if (!chunk.get(0).isEmpty()) {
+				chunkConsumer.accept(chunk.get(0));
 			}
-
-			return entities;
 		} catch (Throwable e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(e));
 			throw new SyncFailedException("Building entities is failed..." + e.getMessage());
 		}
 	}
-	
-	private SyncDataBaseDto getSyncDataBaseDto(SyncDataResponseDto syncDataResponseDto, String entityName) throws Exception {
-		SyncDataBaseDto syncDataBaseDto = syncDataResponseDto.getDataToSync().stream()
-				.filter(obj -> entityName.equalsIgnoreCase(obj.getEntityName() ))
-				.findAny()
-				.orElse(null);
-		 
-		return syncDataBaseDto;
+
+	/**
+	 * Reads the json array of the synced data one row at a time, without
+	 * building the whole array in memory. Each row of the array is a json string.
+	 * 
+	 * @param data
+	 *            the decrypted json array
+	 * @param rowConsumer
+	 *            consumer of each row
+	 */
+	private static void readJsonRows(byte[] data, JsonRowConsumer rowConsumer) throws Exception {
+		try (JsonParser jsonParser = JSON_FACTORY.createParser(data)) {
+			if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+				throw new SyncFailedException("Synced data is not a json array");
+			}
+
+			JsonToken token;
+			while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token != JsonToken.VALUE_STRING) {
+					throw new SyncFailedException("Synced data row is not a json string : " + token);
+				}
+				rowConsumer.accept(jsonParser.getText());
+			}
+		}
 	}
-	
-	private Class getEntityClass(String entityName) throws ClassNotFoundException {
+
+	/**
+	 * Builds the entities on the parser pool while the calling writer thread
+	 * saves them chunk by chunk, so that only a few chunks of the entity are held
+	 * in memory at any time. Each saved chunk is flushed as one JDBC batch and
+	 * detached from the transaction of the group.
+	 * 
+	 * @param entityName
+	 * @param decryptedData
+	 *            the decryption of the synced data of the entity
+	 * @param repository
+	 * @return the changes of the entity, null if the entity is not synced
+	 */
+	private EntityChanges saveEntities(String entityName, CompletableFuture<byte[]> decryptedData,
+			JpaRepository repository) throws Throwable {
+		long start = System.currentTimeMillis();
+		byte[] data;
 		try {
-			
-			return ENTITY_CLASS_NAMES.containsKey(entityName) ? Class.forName(ENTITY_CLASS_NAMES.get(entityName)) : 
-				Class.forName(ENTITY_PACKAGE_NAME + entityName);
-			
-		} catch(ClassNotFoundException ex) {
-			return Class.forName(ENTITY_PACKAGE_NAME + "Reg" + entityName);
+			data = decryptedData.join();
+		} catch (CompletionException exception) {
+			throw exception.getCause();
+		}
+		if (data == null) {
+			return null;
+		}
+
+		long decrypted = System.currentTimeMillis();
+		EntityChanges entityChanges = masterDataChangeDetector.track(entityName, repository.count());
+		EntityChunkQueue entityChunks = new EntityChunkQueue();
+		CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+			try {
+				buildEntities(entityName, data, entityChanges, entityChunks::put);
+				entityChunks.complete();
+			} catch (Exception exception) {
+				throw new CompletionException(exception);
+			}
+		}, getParserExecutor());
+
+		try {
+			List<Object> chunk;
+			while ((chunk = entityChunks.take(producer)) != null) {
+				repository.saveAll(chunk);
+				entityManager.flush();
+				entityManager.clear();
+			}
+		} finally {
+			entityChunks.close();
 		}
+
+		LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, String.format(
+				"Entity %s : %d inserted, %d updated, %d deactivated, %d unchanged rows, waited for decryption (ms) : %d, built and saved in (ms) : %d",
+				entityName, entityChanges.getInserted(), entityChanges.getUpdated(), entityChanges.getDeactivated(),
+				entityChanges.getUnchanged(), decrypted - start, System.currentTimeMillis() - decrypted));
+		return entityChanges;
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws Exception 
+	 * Submits the decryption of the synced data of the entities of the group,
+	 * which are not decrypted or saved yet
+	 * 
+	 * @param syncEntityGroup
+	 * @param syncData
+	 *            the synced data of each entity
+	 * @param decryptedData
+	 *            the decryption of the synced data of each entity
 	 */
-	@Async
-	private CompletableFuture<Boolean> handleDeviceSync(SyncDataResponseDto syncDataResponseDto) throws Exception {
-		try {		
-			deviceTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DeviceType")));
-			deviceSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"DeviceSpecification")));
-			deviceMasterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"Device")));
-			foundationalTrustProviderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "FoundationalTrustProvider")));
-		} catch (Exception e) {
-			throw new SyncFailedException(e.getMessage()+"Saving the entities into machine sync is failed ");
+	private void decryptAhead(SyncEntityGroup syncEntityGroup, Map<String, SyncDataBaseDto> syncData,
+			Map<String, CompletableFuture<byte[]>> decryptedData) {
+		for (String entityName : syncEntityGroup.getRepositories().keySet()) {
+			decryptedData.computeIfAbsent(entityName, name -> submitDecryption(syncData.get(name)));
 		}
-		return CompletableFuture.completedFuture(true);
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * Decrypts the synced data of the entity on the decrypt pool
+	 * 
+	 * @param syncDataBaseDto
+	 *            the synced data, null if the entity is not synced
+	 * @return the future of the decrypted data, completed with null if there is
+	 *         no data to sync
 	 */
-	@Async
-	private CompletableFuture handleMachineSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
-		try {
-			machineTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineType")));
-			machineSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineSpecification")));
-			machineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Machine")));
-		}  catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Machine data sync failed due to " +  e.getMessage());
+	private CompletableFuture<byte[]> submitDecryption(SyncDataBaseDto syncDataBaseDto) {
+		if (syncDataBaseDto == null || syncDataBaseDto.getData() == null || syncDataBaseDto.getData().isEmpty()) {
+			return CompletableFuture.completedFuture(null);
 		}
-		return CompletableFuture.completedFuture(true);
+
+		return CompletableFuture.supplyAsync(() -> {
+			long start = System.currentTimeMillis();
+			try {
+				byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
+				LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Entity "
+						+ syncDataBaseDto.getEntityName() + " decrypted in (ms) : " + (System.currentTimeMillis() - start));
+				return data;
+			} catch (RuntimeException exception) {
+				LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(exception));
+				throw new CompletionException(new SyncFailedException("Decrypting entity "
+						+ syncDataBaseDto.getEntityName() + " is failed..." + exception.getMessage()));
+			}
+		}, getDecryptExecutor());
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
+	 * Indexes the synced data by the entity name, ignoring the case of the name
+	 * 
 	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @return the synced data of each entity
 	 */
-	@Async
-	private CompletableFuture handleRegistrationCenterSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			registrationCenterTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterType")));
-			registrationCenterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenter")));			
-			registrationCenterDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterDevice")));
-			centerMachineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachine")));
-			registrationCenterMachineDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachineDevice")));
-			registrationCenterUserRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterUser")));
-		} catch (Exception e ) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("RegistrationCenter data sync failed due to " +  e.getMessage());
+	private Map<String, SyncDataBaseDto> getSyncDataByEntityName(SyncDataResponseDto syncDataResponseDto) {
+		Map<String, SyncDataBaseDto> syncData = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (SyncDataBaseDto syncDataBaseDto : syncDataResponseDto.getDataToSync()) {
+			if (syncDataBaseDto.getEntityName() != null) {
+				syncData.putIfAbsent(syncDataBaseDto.getEntityName(), syncDataBaseDto);
+			}
 		}
-		return CompletableFuture.completedFuture(true);
+		return syncData;
 	}
 	
-	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
-	 */
-	@Async
-	private CompletableFuture handleAppDetailSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
+	private Class getEntityClass(String entityName) throws ClassNotFoundException {
 		try {
-			appDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppDetail")));
-			appRolePriorityRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppRolePriority")));
-			appAuthenticationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppAuthenticationMethod")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("AppDetail data sync failed due to " +  e.getMessage());
+			
+			return ENTITY_CLASS_NAMES.containsKey(entityName) ? Class.forName(ENTITY_CLASS_NAMES.get(entityName)) : 
+				Class.forName(ENTITY_PACKAGE_NAME + entityName);
+			
+		} catch(ClassNotFoundException ex) {
+			return Class.forName(ENTITY_PACKAGE_NAME + "Reg" + entityName);
 		}
-		return CompletableFuture.completedFuture(true);
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * The entity groups in the order of their dependencies. Entities are saved in
+	 * the listed order within a group, and a group is saved only after the groups
+	 * it depends on are saved.
+	 * 
+	 * @return the list of {@link SyncEntityGroup}
 	 */
-	@Async
-	private CompletableFuture handleTemplateSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException{
-		try {
-			templateFileFormatRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateFileFormat")));
-			templateTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateType")));
-			templateRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Template")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Template data sync failed due to " +  e.getMessage());
-		}
-		return CompletableFuture.completedFuture(true);
+	private List<SyncEntityGroup> getSyncEntityGroups() {
+		List<SyncEntityGroup> syncEntityGroups = new ArrayList<>();
+		syncEntityGroups.add(new SyncEntityGroup("Device")
+				.entity("DeviceType", deviceTypeRepository)
+				.entity("DeviceSpecification", deviceSpecificationRepository)
+				.entity("Device", deviceMasterRepository)
+				.entity("FoundationalTrustProvider", foundationalTrustProviderRepository));
+		syncEntityGroups.add(new SyncEntityGroup("Machine")
+				.entity("MachineType", machineTypeRepository)
+				.entity("MachineSpecification", machineSpecificationRepository)
+				.entity("Machine", machineRepository));
+		syncEntityGroups.add(new SyncEntityGroup("RegistrationCenter", "Device", "Machine")
+				.entity("RegistrationCenterType", registrationCenterTypeRepository)
+				.entity("RegistrationCenter", registrationCenterRepository)
+				.entity("RegistrationCenterDevice", registrationCenterDeviceRepository)
+				.entity("RegistrationCenterMachine", centerMachineRepository)
+				.entity("RegistrationCenterMachineDevice", registrationCenterMachineDeviceRepository)
+				.entity("RegistrationCenterUser", registrationCenterUserRepository));
+		syncEntityGroups.add(new SyncEntityGroup("AppDetail")
+				.entity("AppDetail", appDetailRepository)
+				.entity("AppRolePriority", appRolePriorityRepository)
+				.entity("AppAuthenticationMethod", appAuthenticationRepository));
+		syncEntityGroups.add(new SyncEntityGroup("Template")
+				.entity("TemplateFileFormat", templateFileFormatRepository)
+				.entity("TemplateType", templateTypeRepository)
+				.entity("Template", templateRepository));
+		syncEntityGroups.add(new SyncEntityGroup("Document")
+				.entity("DocumentType", documentTypeRepository)
+				.entity("DocumentCategory", documentCategoryRepository)
+				.entity("ApplicantValidDocument", applicantValidDocumentRepository)
+				.entity("ValidDocument", validDocumentRepository));
+		syncEntityGroups.add(new SyncEntityGroup("IdSchema")
+				.entity("BiometricType", biometricTypeRepository)
+				.entity("BiometricAttribute", biometricAttributeRepository)
+				.entity("Gender", genderRepository)
+				.entity("IdType", idTypeRepository)
+				.entity("Location", locationRepository)
+				.entity("Title", titleRepository)
+				.entity("IndividualType", individualTypeRepository));
+		syncEntityGroups.add(new SyncEntityGroup("Miscellaneous")
+				.entity("BlacklistedWords", blacklistedWordsRepository)
+				.entity("ProcessList", processListRepository)
+				.entity("ScreenDetail", screenDetailRepository)
+				.entity("ScreenAuthorization", screenAuthorizationRepository));
+		syncEntityGroups.add(new SyncEntityGroup("Language")
+				.entity("Language", languageRepository)
+				.entity("ReasonCategory", reasonCategoryRepository)
+				.entity("ReasonList", reasonListRepository)
+				.entity("SyncJobDef", syncJobDefRepository));
+		return syncEntityGroups;
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * Saves the entities of the group in one transaction on the writer pool once
+	 * the groups it depends on are saved. The entities are built on the parser
+	 * pool while they are being saved.
+	 * 
+	 * @param syncEntityGroup
+	 * @param nextGroup
+	 *            the group decrypted ahead while the group is saved, null for the
+	 *            last group
+	 * @param syncData
+	 *            the synced data of each entity
+	 * @param decryptedData
+	 *            the decryption of the synced data of each entity
+	 * @param groupFutures
+	 *            the futures of the groups submitted so far
+	 * @return the future completed once the group is saved
 	 */
-	@Async
-	private CompletableFuture handleDocumentSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
+	private CompletableFuture<Void> submitEntityGroup(SyncEntityGroup syncEntityGroup, SyncEntityGroup nextGroup,
+			Map<String, SyncDataBaseDto> syncData, Map<String, CompletableFuture<byte[]>> decryptedData,
+			Map<String, CompletableFuture<Void>> groupFutures) {
+		List<CompletableFuture<?>> dependencies = new ArrayList<>();
+		for (String dependency : syncEntityGroup.getDependencies()) {
+			dependencies.add(groupFutures.get(dependency));
+		}
+
+		return CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[dependencies.size()]))
+				.handleAsync((result, throwable) -> {
+					try {
+						if (throwable != null) {
+							throw throwable instanceof CompletionException ? throwable.getCause() : throwable;
+						}
+
+						long start = System.currentTimeMillis();
+						decryptAhead(syncEntityGroup, syncData, decryptedData);
+						if (nextGroup != null) {
+							decryptAhead(nextGroup, syncData, decryptedData);
+						}
+						saveEntityGroup(syncEntityGroup, decryptedData);
+						LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Entity group "
+								+ syncEntityGroup.getName() + " saved in (ms) : " + (System.currentTimeMillis() - start));
+						return null;
+					} catch (Throwable exception) {
+						LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, exception.getMessage());
+						throw new CompletionException(new SyncFailedException(syncEntityGroup.getName()
+								+ " data sync failed due to " + exception.getMessage()));
+					}
+				}, getWriterExecutor());
+	}
+
+	private void saveEntityGroup(SyncEntityGroup syncEntityGroup, Map<String, CompletableFuture<byte[]>> decryptedData)
+			throws Throwable {
+		Map<EntityChanges, JpaRepository> groupChanges = new LinkedHashMap<>();
 		try {
-			documentTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentType")));
-			documentCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentCategory")));
-			applicantValidDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ApplicantValidDocument")));
-			validDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ValidDocument")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Document data sync failed due to " +  e.getMessage());
+			new TransactionTemplate(transactionManager).execute(status -> {
+				try {
+					for (Entry<String, JpaRepository> repository : syncEntityGroup.getRepositories().entrySet()) {
+						// the decrypted data is released once the entity is saved, and not decrypted again
+						EntityChanges entityChanges = saveEntities(repository.getKey(),
+								decryptedData.put(repository.getKey(), SAVED_DATA), repository.getValue());
+						if (entityChanges != null) {
+							groupChanges.put(entityChanges, repository.getValue());
+						}
+					}
+					return null;
+				} catch (Throwable throwable) {
+					// rolls back the transaction of the group
+					throw new CompletionException(throwable);
+				}
+			});
+		} catch (CompletionException exception) {
+			throw exception.getCause();
+		}
+
+		// the saved rows are remembered only once they are committed
+		for (Entry<EntityChanges, JpaRepository> entityChanges : groupChanges.entrySet()) {
+			masterDataChangeDetector.commit(entityChanges.getKey(), entityChanges.getValue().count());
+			addSyncChanges(entityChanges.getKey());
 		}
-		return CompletableFuture.completedFuture(true);
 	}
-	
+
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @return number of inserted, updated, deactivated and unchanged rows of the
+	 *         last sync
 	 */
-	@Async
-	private CompletableFuture handleIdSchemaPossibleValuesSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			biometricTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricType")));
-			biometricAttributeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricAttribute")));
-			genderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Gender")));
-			idTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IdType")));
-			locationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Location")));
-			titleRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Title")));
-			individualTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IndividualType")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("IdSchema data sync failed due to " +  e.getMessage());
-		}
-		return CompletableFuture.completedFuture(true);
+	public synchronized Map<String, Object> getSyncChanges() {
+		return new LinkedHashMap<>(syncChanges);
 	}
-	
+
+	private synchronized void resetSyncChanges() {
+		syncChanges.put(SYNC_CHANGES_INSERTED, 0);
+		syncChanges.put(SYNC_CHANGES_UPDATED, 0);
+		syncChanges.put(SYNC_CHANGES_DEACTIVATED, 0);
+		syncChanges.put(SYNC_CHANGES_UNCHANGED, 0);
+	}
+
+	private synchronized void addSyncChanges(EntityChanges entityChanges) {
+		syncChanges.merge(SYNC_CHANGES_INSERTED, entityChanges.getInserted(), ClientSettingSyncHelper::sum);
+		syncChanges.merge(SYNC_CHANGES_UPDATED, entityChanges.getUpdated(), ClientSettingSyncHelper::sum);
+		syncChanges.merge(SYNC_CHANGES_DEACTIVATED, entityChanges.getDeactivated(), ClientSettingSyncHelper::sum);
+		syncChanges.merge(SYNC_CHANGES_UNCHANGED, entityChanges.getUnchanged(), ClientSettingSyncHelper::sum);
+	}
+
+	private static Object sum(Object count, Object change) {
+		return (Integer) count + (Integer) change;
+	}
+
 	/**
-	 * save the entities data in respective repository
+	 * save dynamic fields with value json
 	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
 	 */
-	@Async
-	private CompletableFuture handleMisellaneousSync1(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			blacklistedWordsRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BlacklistedWords")));
-			processListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ProcessList")));
-			screenDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenDetail")));
-			screenAuthorizationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenAuthorization")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
+	private CompletableFuture<Void> submitDynamicFieldSync(SyncDataResponseDto syncDataResponseDto) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return buildDynamicFields(syncDataResponseDto);
+			} catch (Exception e) {
+				LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
+				throw new CompletionException(
+						new SyncFailedException("Dynamic field sync failed due to " + e.getMessage()));
+			}
+		}, getParserExecutor()).thenAcceptAsync(fields -> {
+			if (!fields.isEmpty()) {
+				dynamicFieldRepository.saveAll(fields);
+			}
+		}, getWriterExecutor());
+	}
+
+	private List<DynamicField> buildDynamicFields(SyncDataResponseDto syncDataResponseDto) throws Exception {
+		Iterator<SyncDataBaseDto> iterator = syncDataResponseDto.getDataToSync().stream()
+				.filter(obj -> FIELD_TYPE_DYNAMIC.equalsIgnoreCase(obj.getEntityType()))
+				.iterator();
+		
+		List<DynamicField> fields = new ArrayList<DynamicField>();
+		while(iterator.hasNext()) {
+			SyncDataBaseDto syncDataBaseDto = iterator.next();
+			
+			if(syncDataBaseDto != null && syncDataBaseDto.getData() != null && !syncDataBaseDto.getData().isEmpty()) {
+				byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
+				readJsonRows(data, row -> {
+					DynamicFieldDto dynamicFieldDto = MapperUtils.convertJSONStringToDto(row,
+							new TypeReference<DynamicFieldDto>() {});
+					DynamicField dynamicField = new DynamicField();
+					dynamicField.setId(dynamicFieldDto.getId());
+					dynamicField.setDataType(dynamicFieldDto.getDataType());
+					dynamicField.setName(dynamicFieldDto.getName());
+					dynamicField.setLangCode(dynamicFieldDto.getLangCode());
+					dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
+							"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
+					dynamicField.setActive(dynamicFieldDto.isActive());
+					fields.add(dynamicField);
+				});
+			}
 		}
-		return CompletableFuture.completedFuture(true);
+		return fields;
+	}
+
+	private synchronized ExecutorService getDecryptExecutor() {
+		if (decryptExecutor == null) {
+			decryptExecutor = BoundedExecutors.newDaemonExecutor("master-sync-decrypt", decryptThreads);
+		}
+		return decryptExecutor;
+	}
+
+	private synchronized ExecutorService getParserExecutor() {
+		if (parserExecutor == null) {
+			parserExecutor = BoundedExecutors.newDaemonExecutor("master-sync-parser", parserThreads);
+		}
+		return parserExecutor;
+	}
+
+	private synchronized ExecutorService getWriterExecutor() {
+		if (writerExecutor == null) {
+			writerExecutor = BoundedExecutors.newDaemonExecutor("master-sync-writer", writerThreads);
+		}
+		return writerExecutor;
 	}
 
 	/**
-	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * Entities synced together, along with the names of the groups to be saved
+	 * before them
 	 */
-	@Async
-	private CompletableFuture handleMisellaneousSync2(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			languageRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Language")));
-			reasonCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonCategory")));
-			reasonListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonList")));
-			syncJobDefRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "SyncJobDef")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
+	private static class SyncEntityGroup {
+
+		private final String name;
+		private final List<String> dependencies;
+		private final Map<String, JpaRepository> repositories = new LinkedHashMap<>();
+
+		SyncEntityGroup(String name, String... dependencies) {
+			this.name = name;
+			this.dependencies = Arrays.asList(dependencies);
+		}
+
+		SyncEntityGroup entity(String entityName, JpaRepository repository) {
+			repositories.put(entityName, repository);
+			return this;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		List<String> getDependencies() {
+			return dependencies;
+		}
+
+		Map<String, JpaRepository> getRepositories() {
+			return repositories;
 		}
-		return CompletableFuture.completedFuture(true);
 	}
-	
+
+	@FunctionalInterface
+	private interface JsonRowConsumer {
+		void accept(String row) throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface EntityChunkConsumer {
+		void accept(List<Object> chunk) throws Exception;
+	}
+
 	/**
-	 * save dynamic fields with value json
-	 * @param syncDataResponseDto
+	 * Bounded hand over of the built entity chunks from the parser thread to the
+	 * writer thread. The parser stops once the writer closes the queue.
 	 */
-	@Async
-	private CompletableFuture handleDynamicFieldSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
-		try {
-			Iterator<SyncDataBaseDto> iterator = syncDataResponseDto.getDataToSync().stream()
-					.filter(obj -> FIELD_TYPE_DYNAMIC.equalsIgnoreCase(obj.getEntityType()))
-					.iterator();
-			
-			List<DynamicField> fields = new ArrayList<DynamicField>();
-			while(iterator.hasNext()) {
-				SyncDataBaseDto syncDataBaseDto = iterator.next();
-				
-				if(syncDataBaseDto != null && syncDataBaseDto.getData() != null && !syncDataBaseDto.getData().isEmpty()) {
-					byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
-					JSONArray jsonArray = new JSONArray(new String(data));
-
-					for(int i=0; i< jsonArray.length(); i++) {
-						DynamicFieldDto dynamicFieldDto = MapperUtils.convertJSONStringToDto(jsonArray.getString(i),
-								new TypeReference<DynamicFieldDto>() {});
-						DynamicField dynamicField = new DynamicField();
-						dynamicField.setId(dynamicFieldDto.getId());
-						dynamicField.setDataType(dynamicFieldDto.getDataType());
-						dynamicField.setName(dynamicFieldDto.getName());
-						dynamicField.setLangCode(dynamicFieldDto.getLangCode());
-						dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
-								"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
-						dynamicField.setActive(dynamicFieldDto.isActive());
-						fields.add(dynamicField);
-					}
+	private static class EntityChunkQueue {
+
+		private static final int MAX_PENDING_CHUNKS = 2;
+		private static final long POLL_TIMEOUT_SECONDS = 1;
+
+		private final List<Object> endOfEntities = new ArrayList<>(0);
+		private final BlockingQueue<List<Object>> chunks = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+		private volatile boolean closed;
+
+		void put(List<Object> chunk) throws InterruptedException, SyncFailedException {
+			while (!chunks.offer(chunk, POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				if (closed) {
+					throw new SyncFailedException("Saving of the entities is stopped");
 				}
 			}
-			
-			if (!fields.isEmpty()) {
-				dynamicFieldRepository.saveAll(fields);
+		}
+
+		void complete() throws InterruptedException, SyncFailedException {
+			put(endOfEntities);
+		}
+
+		/**
+		 * @return the next chunk, or null once all the entities are taken
+		 */
+		List<Object> take(CompletableFuture<Void> producer) throws Throwable {
+			while (true) {
+				List<Object> chunk = chunks.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				if (chunk == endOfEntities) {
+					return null;
+				}
+				if (chunk != null) {
+					return chunk;
+				}
+				if (producer.isCompletedExceptionally()) {
+					try {
+						producer.join();
+					} catch (CompletionException exception) {
+						throw exception.getCause();
+					}
+				}
 			}
-				
-		} catch(IOException e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Dynamic field sync failed due to " +  e.getMessage());
 		}
-		return CompletableFuture.completedFuture(true);
+
+		void close() {
+			closed = true;
+		}
 	}
 
 	private void checkForDuplicates(List<DynamicField> fields, List<DynamicField> existingFields) {
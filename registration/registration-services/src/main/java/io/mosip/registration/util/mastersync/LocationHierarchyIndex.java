@@ -0,0 +1,243 @@
+package io.mosip.registration.util.mastersync;
+
+import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYNC;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.dao.MasterSyncDao;
+import io.mosip.registration.entity.Location;
+
+/**
+ * In-memory index of the active locations, one immutable tree per language.
+ * The trees are built from a single query on the first lookup, and are dropped
+ * when the synced master data is saved.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class LocationHierarchyIndex {
+
+	private static final Logger LOGGER = AppConfig.getLogger(LocationHierarchyIndex.class);
+
+	@Autowired
+	private MasterSyncDao masterSyncDao;
+
+	private Map<String, LocationTree> locationTrees;
+
+	/**
+	 * @param hierarchyLevel
+	 *            the hierarchy level
+	 * @param langCode
+	 *            the language code
+	 * @return the locations of the hierarchy level
+	 */
+	public List<Location> getLocations(int hierarchyLevel, String langCode) {
+		LocationTree locationTree = getLocationTree(langCode);
+		return locationTree == null ? Collections.emptyList() : locationTree.getLocations(hierarchyLevel);
+	}
+
+	/**
+	 * @param parentLocCode
+	 *            code of the parent location
+	 * @param langCode
+	 *            the language code
+	 * @return the active child locations of the parent location, also when the
+	 *         parent location is not active
+	 */
+	public List<Location> getChildren(String parentLocCode, String langCode) {
+		LocationTree locationTree = getLocationTree(langCode);
+		return locationTree == null ? Collections.emptyList() : locationTree.getChildren(parentLocCode);
+	}
+
+	/**
+	 * @param code
+	 *            code of the location
+	 * @param langCode
+	 *            the language code
+	 * @return the location and its parents, up to the root of the hierarchy
+	 */
+	public List<Location> getPathToRoot(String code, String langCode) {
+		LocationTree locationTree = getLocationTree(langCode);
+		return locationTree == null ? Collections.emptyList() : locationTree.getPathToRoot(code);
+	}
+
+	/**
+	 * @param hierarchyLevel
+	 *            the hierarchy level
+	 * @param langCode
+	 *            the language code
+	 * @param namePrefix
+	 *            prefix of the location name, case insensitive
+	 * @param limit
+	 *            maximum number of locations
+	 * @return the locations of the hierarchy level, whose names start with the
+	 *         prefix, in the order of the names
+	 */
+	public List<Location> findByNamePrefix(int hierarchyLevel, String langCode, String namePrefix, int limit) {
+		LocationTree locationTree = getLocationTree(langCode);
+		return locationTree == null || namePrefix == null ? Collections.emptyList()
+				: locationTree.findByNamePrefix(hierarchyLevel, namePrefix, limit);
+	}
+
+	/**
+	 * Drops the location trees, they are built again on the next lookup
+	 */
+	public synchronized void invalidate() {
+		locationTrees = null;
+	}
+
+	private LocationTree getLocationTree(String langCode) {
+		return getLocationTrees().get(langCode);
+	}
+
+	private synchronized Map<String, LocationTree> getLocationTrees() {
+		if (locationTrees == null) {
+			long start = System.currentTimeMillis();
+
+			Map<String, List<Location>> locationsByLangCode = new HashMap<>();
+			for (Location location : masterSyncDao.getLocationDetails()) {
+				locationsByLangCode.computeIfAbsent(location.getLangCode(), langCode -> new ArrayList<>())
+						.add(location);
+			}
+
+			Map<String, LocationTree> trees = new HashMap<>();
+			locationsByLangCode.forEach((langCode, locations) -> trees.put(langCode, new LocationTree(locations)));
+			locationTrees = trees;
+
+			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Location trees of "
+					+ trees.keySet() + " built in (ms) : " + (System.currentTimeMillis() - start));
+		}
+		return locationTrees;
+	}
+
+	/**
+	 * Locations of a language, with the parent and children of each location
+	 * held as indexes of the location array. The children are held by the code
+	 * of their parent, which may not be an active location.
+	 */
+	private static final class LocationTree {
+
+		private static final int[] NO_LOCATIONS = new int[0];
+
+		private final Location[] locations;
+
+		private final int[] parents;
+
+		private final Map<String, int[]> childrenByParentCode;
+
+		private final Map<String, Integer> indexByCode;
+
+		private final Map<Integer, int[]> indexesByLevel;
+
+		/** location indexes of each level, in the order of the names */
+		private final Map<Integer, int[]> nameIndexesByLevel;
+
+		private final String[] names;
+
+		private LocationTree(List<Location> locationList) {
+			locations = locationList.toArray(new Location[locationList.size()]);
+			parents = new int[locations.length];
+			names = new String[locations.length];
+			indexByCode = new HashMap<>(locations.length * 2);
+
+			for (int index = 0; index < locations.length; index++) {
+				indexByCode.put(locations[index].getCode(), index);
+				names[index] = locations[index].getName() == null ? ""
+						: locations[index].getName().toLowerCase(Locale.ROOT);
+			}
+
+			Map<String, List<Integer>> childLists = new HashMap<>();
+			Map<Integer, List<Integer>> levelLists = new HashMap<>();
+			for (int index = 0; index < locations.length; index++) {
+				String parentLocCode = locations[index].getParentLocCode();
+				Integer parent = parentLocCode == null ? null : indexByCode.get(parentLocCode);
+				parents[index] = parent == null ? -1 : parent;
+				if (parentLocCode != null) {
+					childLists.computeIfAbsent(parentLocCode, key -> new ArrayList<>()).add(index);
+				}
+				levelLists.computeIfAbsent(locations[index].getHierarchyLevel(), key -> new ArrayList<>()).add(index);
+			}
+
+			childrenByParentCode = new HashMap<>(childLists.size() * 2);
+			childLists.forEach((parentLocCode, indexes) -> childrenByParentCode.put(parentLocCode, toArray(indexes)));
+
+			indexesByLevel = new HashMap<>();
+			nameIndexesByLevel = new HashMap<>();
+			levelLists.forEach((level, indexes) -> {
+				indexesByLevel.put(level, toArray(indexes));
+				List<Integer> byName = new ArrayList<>(indexes);
+				byName.sort(Comparator.comparing(index -> names[index]));
+				nameIndexesByLevel.put(level, toArray(byName));
+			});
+		}
+
+		private List<Location> getLocations(int hierarchyLevel) {
+			return toLocations(indexesByLevel.getOrDefault(hierarchyLevel, NO_LOCATIONS));
+		}
+
+		private List<Location> getChildren(String parentLocCode) {
+			return toLocations(childrenByParentCode.getOrDefault(parentLocCode, NO_LOCATIONS));
+		}
+
+		private List<Location> getPathToRoot(String code) {
+			LinkedList<Location> path = new LinkedList<>();
+			Integer index = indexByCode.get(code);
+			// bounded by the number of locations, in case of a cycle in the synced data
+			for (int location = index == null ? -1 : index; location != -1
+					&& path.size() < locations.length; location = parents[location]) {
+				path.add(locations[location]);
+			}
+			return path;
+		}
+
+		private List<Location> findByNamePrefix(int hierarchyLevel, String namePrefix, int limit) {
+			int[] nameIndexes = nameIndexesByLevel.getOrDefault(hierarchyLevel, NO_LOCATIONS);
+			String prefix = namePrefix.toLowerCase(Locale.ROOT);
+
+			// first name not less than the prefix
+			int low = 0;
+			int high = nameIndexes.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (names[nameIndexes[mid]].compareTo(prefix) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			List<Location> matches = new ArrayList<>();
+			for (int position = low; position < nameIndexes.length && matches.size() < limit
+					&& names[nameIndexes[position]].startsWith(prefix); position++) {
+				matches.add(locations[nameIndexes[position]]);
+			}
+			return matches;
+		}
+
+		private List<Location> toLocations(int[] indexes) {
+			List<Location> locationList = new ArrayList<>(indexes.length);
+			for (int index : indexes) {
+				locationList.add(locations[index]);
+			}
+			return locationList;
+		}
+
+		private static int[] toArray(List<Integer> indexes) {
+			return indexes.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+}
@@ -6,6 +6,9 @@ import static io.mosip.registration.constants.RegistrationConstants.MAPPER_UTILL
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
@@ -16,7 +19,9 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
@@ -67,7 +72,13 @@ public class MapperUtils {
 	private static final String FIELD_MISSING_ERROR_MESSAGE = "Field %s not found in data";
 	
 	private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";	
-	private static final SimpleDateFormat SIMPLE_DATE_FORMAT = new SimpleDateFormat(DATE_TIME_FORMAT);
+	private static final ThreadLocal<SimpleDateFormat> SIMPLE_DATE_FORMAT = ThreadLocal
+			.withInitial(() -> new SimpleDateFormat(DATE_TIME_FORMAT));
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/** Json mappers of the entities, built once per entity class */
+	private static final Map<Class<?>, JsonEntityMapper> JSON_ENTITY_MAPPERS = new ConcurrentHashMap<>();
 	
 	private MapperUtils() {
 		super();
@@ -488,6 +499,11 @@ public class MapperUtils {
 	 * Map values from {@link BaseEntity} class source object to destination or vice
 	 * versa.
 	 * 
+	 * <p>
+	 * The fields to be mapped and their setters are resolved once per entity class
+	 * and reused for every json object of that class.
+	 * </p>
+	 * 
 	 * @param jsonObject      which value is going to be mapped
 	 * @param destination where values is going to be mapped
 	 * @throws ParseException 
@@ -498,90 +514,148 @@ public class MapperUtils {
 	public static <D> D mapJSONObjectToEntity(final JSONObject jsonObject, Class<?> entityClass) throws IllegalAccessException, InstantiationException, ParseException, IllegalArgumentException, SecurityException, JSONException {
 		Objects.requireNonNull(jsonObject, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(entityClass, "destination class should not be null");
-		Object destination = null;
+		JsonEntityMapper jsonEntityMapper = JSON_ENTITY_MAPPERS.computeIfAbsent(entityClass,
+				destinationClass -> new JsonEntityMapper(destinationClass, true));
 		try {
-			destination = entityClass.newInstance();
-		} catch (InstantiationException | IllegalAccessException exOperationException) {
-			LOGGER.error(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID, "Exception in mapping vlaues from source : "
-					+ jsonObject.getClass().getName() + " to destination : " + entityClass.getName());
+			return (D) jsonEntityMapper.map(jsonObject);
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable throwable) {
 			throw new RegBaseUncheckedException(MAPPER_UTILL,
-					exOperationException.getMessage() + ExceptionUtils.getStackTrace(exOperationException));
+					throwable.getMessage() + ExceptionUtils.getStackTrace(throwable));
 		}
-		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		setBaseFieldValueFromJsonObject(jsonObject, destination);// map super class values
-		mapJsonToEntity(jsonObject, destination, destination.getClass().getDeclaredFields());
-		return (D) destination;
 	}
-	
-	
+
 	/**
-	 * Take value from source field and insert value into destination field.
-	 * 
-	 * @param jsonObject      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param fields         destination fields
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 * @throws JSONException 
-	 * @throws IllegalArgumentException 
+	 * Maps the json object to an instance of the entity class, using the setters of
+	 * the fields of the entity (and of the {@link RegistrationCommonFields} super
+	 * class) resolved while creating the mapper.
 	 */
-	private static <D> void mapJsonToEntity(JSONObject jsonObject, D destination, Field[] fields)
-			throws InstantiationException, IllegalAccessException, ParseException, IllegalArgumentException, JSONException {
+	private static final class JsonEntityMapper {
+
+		private final MethodHandle constructor;
+		private final List<JsonFieldMapper> fieldMappers = new ArrayList<>();
 
-		for (Field dfield : fields) {
-			if (isIgnoreField(dfield)) {
-				continue;
+		private JsonEntityMapper(Class<?> entityClass, boolean mapBaseFields) {
+			try {
+				Constructor<?> entityConstructor = entityClass.getDeclaredConstructor();
+				entityConstructor.setAccessible(true);
+				constructor = LOOKUP.unreflectConstructor(entityConstructor);
+
+				// map super class values
+				if (mapBaseFields && RegistrationCommonFields.class.equals(entityClass.getSuperclass())) {
+					addFieldMappers(entityClass.getSuperclass().getDeclaredFields());
+				}
+				addFieldMappers(entityClass.getDeclaredFields());
+			} catch (NoSuchMethodException | IllegalAccessException | SecurityException exception) {
+				LOGGER.error(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID,
+						"Exception in building the json mapper of destination : " + entityClass.getName());
+				throw new RegBaseUncheckedException(MAPPER_UTILL,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
 			}
-			if (dfield.isAnnotationPresent(EmbeddedId.class)) {
-				Object id = dfield.getType().newInstance();
-				mapJsonToEntity(jsonObject, id, id.getClass().getDeclaredFields());
-				dfield.setAccessible(true);
-				dfield.set(destination, id);
-				dfield.setAccessible(false);
-				continue;
+		}
+
+		private void addFieldMappers(Field[] fields) throws IllegalAccessException {
+			for (Field field : fields) {
+				if (isIgnoreField(field)) {
+					continue;
+				}
+				field.setAccessible(true);
+				fieldMappers.add(new JsonFieldMapper(field.getName(), LOOKUP.unreflectSetter(field),
+						JsonValueType.of(field.getType()), field.isAnnotationPresent(EmbeddedId.class)
+								? new JsonEntityMapper(field.getType(), false) : null));
 			}
-			
-			//avoids failure of complete sync on missing of non-mandatory field
-			if(!jsonObject.has(dfield.getName()) || jsonObject.get(dfield.getName()) == JSONObject.NULL) {
-				//throw new RegBaseUncheckedException(MAPPER_UTILL, String.format(FIELD_MISSING_ERROR_MESSAGE, dfield.getName()));
-				//LOGGER.warn(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID, String.format(FIELD_MISSING_ERROR_MESSAGE, dfield.getName()));
-				continue;
+		}
+
+		private Object map(JSONObject jsonObject) throws Throwable {
+			Object destination = constructor.invoke();
+			for (JsonFieldMapper fieldMapper : fieldMappers) {
+				fieldMapper.map(jsonObject, destination);
 			}
-			
-			dfield.setAccessible(true);			
-			
-			switch (dfield.getType().getName()) {
-			case "java.lang.Boolean":	
-				dfield.set(destination, jsonObject.get(dfield.getName()));
-				break;
-			case "boolean":
-				dfield.set(destination,  jsonObject.get(dfield.getName()));
-				break;
+			return destination;
+		}
+	}
+
+	/**
+	 * Sets the value of the json attribute with the same name as the field.
+	 * Embedded ids are mapped from the same json object.
+	 */
+	private static final class JsonFieldMapper {
+
+		private final String name;
+		private final MethodHandle setter;
+		private final JsonValueType valueType;
+		private final JsonEntityMapper embeddedIdMapper;
+
+		private JsonFieldMapper(String name, MethodHandle setter, JsonValueType valueType,
+				JsonEntityMapper embeddedIdMapper) {
+			this.name = name;
+			this.setter = setter;
+			this.valueType = valueType;
+			this.embeddedIdMapper = embeddedIdMapper;
+		}
+
+		private void map(JSONObject jsonObject, Object destination) throws Throwable {
+			if (embeddedIdMapper != null) {
+				setter.invoke(destination, embeddedIdMapper.map(jsonObject));
+				return;
+			}
+
+			// avoids failure of complete sync on missing of non-mandatory field
+			Object value = jsonObject.opt(name);
+			if (value == null || value == JSONObject.NULL) {
+				return;
+			}
+
+			setter.invoke(destination, valueType.read(jsonObject, name));
+		}
+	}
+
+	/**
+	 * Conversion of the json attribute based on the type of the entity field
+	 */
+	private enum JsonValueType {
+		DEFAULT, TIME, BYTES, TIMESTAMP, LOCAL_DATE_TIME, LOCAL_DATE;
+
+		private static JsonValueType of(Class<?> fieldType) {
+			switch (fieldType.getName()) {
 			case "java.sql.Time":
-				dfield.set(destination, java.sql.Time.valueOf(jsonObject.getString(dfield.getName())));
-				break;
-			case "[B" :
-				dfield.set(destination, jsonObject.getString(dfield.getName()).getBytes());
-				break;
-			case "java.sql.Timestamp" :
-				dfield.set(destination, getTimestampValue(jsonObject.getString(dfield.getName())));
-				break;
+				return TIME;
+			case "[B":
+				return BYTES;
+			case "java.sql.Timestamp":
+				return TIMESTAMP;
 			case "java.time.LocalDateTime":
-				dfield.set(destination, getLocalDateTimeValue(jsonObject.getString(dfield.getName())));
-				break;
+				return LOCAL_DATE_TIME;
 			case "java.time.LocalDate":
-				dfield.set(destination, getLocalDateValue(jsonObject.getString(dfield.getName())));
-				break;
+				return LOCAL_DATE;
 			default:
-				dfield.set(destination, jsonObject.get(dfield.getName()));
-				break;
-			}			
+				return DEFAULT;
+			}
+		}
+
+		private Object read(JSONObject jsonObject, String name) {
+			switch (this) {
+			case TIME:
+				return java.sql.Time.valueOf(jsonObject.getString(name));
+			case BYTES:
+				return jsonObject.getString(name).getBytes();
+			case TIMESTAMP:
+				return getTimestampValue(jsonObject.getString(name));
+			case LOCAL_DATE_TIME:
+				return getLocalDateTimeValue(jsonObject.getString(name));
+			case LOCAL_DATE:
+				return getLocalDateValue(jsonObject.getString(name));
+			default:
+				return jsonObject.get(name);
+			}
 		}
 	}
 	
 	private static Timestamp getTimestampValue(String value) {
 		Timestamp timestamp = null;
 		try {
-			timestamp = new Timestamp(SIMPLE_DATE_FORMAT.parse(value).getTime());
+			timestamp = new Timestamp(SIMPLE_DATE_FORMAT.get().parse(value).getTime());
 			return timestamp;
 		} catch(ParseException ex) {
 			LOGGER.error(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID, "Failed to parse timestamp, invalid format >> " + value);
@@ -613,17 +687,6 @@ public class MapperUtils {
 	}
 	
 	
-	private static <D> void setBaseFieldValueFromJsonObject(JSONObject source, D destination) throws InstantiationException, IllegalAccessException, ParseException, IllegalArgumentException, JSONException {
-
-		String destinationSupername = destination.getClass().getSuperclass().getName();// super class of destination object
-		String baseEntityClassName = RegistrationCommonFields.class.getName();// base entity fully qualified name
-		// if destination is an entity
-		if (destinationSupername.equals(baseEntityClassName)) {
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapJsonToEntity(source, destination, destinationFields);
-		}
-	}
-	
 	public static <T> T convertJSONStringToDto(final String jsonString, TypeReference<T> typeReference) throws IOException {
 		return mapper.readValue(jsonString, typeReference);
 	}
@@ -0,0 +1,116 @@
+package io.mosip.registration.util.mastersync;
+
+import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYNC;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.exception.RegBaseCheckedException;
+
+/**
+ * Cache of the master data lookups of the UI, keyed by entity, language and
+ * parent code. The cache is filled on the first lookup after startup or sync,
+ * and is replaced as a whole when the synced master data is saved.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class MasterDataCache {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MasterDataCache.class);
+
+	private final AtomicReference<Map<CacheKey, List<?>>> entries = new AtomicReference<>(new ConcurrentHashMap<>());
+
+	/**
+	 * Loader of the master data, on cache miss
+	 */
+	@FunctionalInterface
+	public interface MasterDataLoader<T> {
+
+		List<T> load() throws RegBaseCheckedException;
+	}
+
+	/**
+	 * @param entity
+	 *            the master data entity
+	 * @param langCode
+	 *            the language code
+	 * @param parentCode
+	 *            the parent code, null if the lookup has no parent
+	 * @param loader
+	 *            loads the master data from the database, on cache miss
+	 * @return copy of the cached master data
+	 * @throws RegBaseCheckedException
+	 *             if the loader fails
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> get(String entity, String langCode, String parentCode, MasterDataLoader<T> loader)
+			throws RegBaseCheckedException {
+		Map<CacheKey, List<?>> cache = entries.get();
+		CacheKey cacheKey = new CacheKey(entity, langCode, parentCode);
+
+		List<T> values = (List<T>) cache.get(cacheKey);
+		if (values == null) {
+			values = Collections.unmodifiableList(new ArrayList<>(loader.load()));
+			// loaded into the cache of this lookup, which is dropped if the data was synced meanwhile
+			List<T> cachedValues = (List<T>) cache.putIfAbsent(cacheKey, values);
+			if (cachedValues != null) {
+				values = cachedValues;
+			}
+		}
+		return new ArrayList<>(values);
+	}
+
+	/**
+	 * Drops all the cached master data
+	 */
+	public void invalidate() {
+		entries.set(new ConcurrentHashMap<>());
+
+		LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Master data cache invalidated");
+	}
+
+	private static final class CacheKey {
+
+		private final String entity;
+
+		private final String langCode;
+
+		private final String parentCode;
+
+		private CacheKey(String entity, String langCode, String parentCode) {
+			this.entity = entity;
+			this.langCode = langCode;
+			this.parentCode = parentCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) object;
+			return entity.equals(cacheKey.entity) && Objects.equals(langCode, cacheKey.langCode)
+					&& Objects.equals(parentCode, cacheKey.parentCode);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(entity, langCode, parentCode);
+		}
+	}
+}
@@ -0,0 +1,364 @@
+package io.mosip.registration.util.mastersync;
+
+import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYNC;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Id;
+import javax.persistence.PersistenceUnit;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Detects the synced master data rows, which are unchanged since they were
+ * last saved. The hash of each saved row is remembered by the primary key of
+ * the row, along with the number of rows in the table. The hashes of a table
+ * are ignored when its number of rows is not the remembered one, so that
+ * every row is saved again. Only the rows of the last sync of a table are
+ * remembered.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class MasterDataChangeDetector {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MasterDataChangeDetector.class);
+
+	private static final int FILE_VERSION = 1;
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/** fields of the primary key classes, in the order of their names */
+	private static final Map<Class<?>, List<Field>> KEY_FIELDS = new ConcurrentHashMap<>();
+
+	@Value("${mosip.registration.mastersync.change.detection.enabled:true}")
+	private boolean enabled;
+
+	@Value("${mosip.registration.mastersync.row.hash.file:db/master_sync_row_hashes}")
+	private String rowHashFile;
+
+	@PersistenceUnit
+	private EntityManagerFactory entityManagerFactory;
+
+	private Map<String, EntityRowHashes> entityRowHashes;
+
+	private boolean modified;
+
+	/**
+	 * Starts the change detection of the synced rows of the entity
+	 *
+	 * @param entityName
+	 *            the entity
+	 * @param rowCount
+	 *            number of rows in the table of the entity
+	 * @return the {@link EntityChanges}
+	 */
+	public EntityChanges track(String entityName, long rowCount) {
+		if (!enabled) {
+			return new EntityChanges(entityName, null, null);
+		}
+
+		EntityRowHashes rowHashes;
+		synchronized (this) {
+			rowHashes = getEntityRowHashes().get(entityName);
+		}
+		// the remembered hashes are replaced on commit, never modified
+		return new EntityChanges(entityName, entityManagerFactory.getPersistenceUnitUtil(),
+				rowHashes != null && rowHashes.rowCount == rowCount ? rowHashes.hashes : null);
+	}
+
+	/**
+	 * Remembers the hashes of the rows saved by the committed transaction
+	 *
+	 * @param entityChanges
+	 *            the changes of the entity
+	 * @param rowCount
+	 *            number of rows in the table of the entity, after the commit
+	 */
+	public synchronized void commit(EntityChanges entityChanges, long rowCount) {
+		if (!enabled || entityChanges.persistenceUnitUtil == null) {
+			return;
+		}
+
+		// rows not in this sync are forgotten, they are saved again if synced later
+		getEntityRowHashes().put(entityChanges.entityName,
+				new EntityRowHashes(rowCount, entityChanges.syncedHashes));
+		modified = true;
+	}
+
+	/**
+	 * Saves the remembered hashes for the next sync
+	 */
+	public synchronized void save() {
+		if (!enabled || !modified) {
+			return;
+		}
+
+		File file = new File(rowHashFile);
+		File tempFile = new File(rowHashFile + ".tmp");
+		try {
+			try (DataOutputStream outputStream = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				outputStream.writeInt(FILE_VERSION);
+				outputStream.writeInt(entityRowHashes.size());
+				for (Map.Entry<String, EntityRowHashes> entry : entityRowHashes.entrySet()) {
+					outputStream.writeUTF(entry.getKey());
+					outputStream.writeLong(entry.getValue().rowCount);
+					outputStream.writeInt(entry.getValue().hashes.size());
+					for (Map.Entry<Long, Long> hash : entry.getValue().hashes.entrySet()) {
+						outputStream.writeLong(hash.getKey());
+						outputStream.writeLong(hash.getValue());
+					}
+				}
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			modified = false;
+		} catch (IOException ioException) {
+			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+		}
+	}
+
+	private Map<String, EntityRowHashes> getEntityRowHashes() {
+		if (entityRowHashes == null) {
+			entityRowHashes = new HashMap<>();
+
+			File file = new File(rowHashFile);
+			if (file.exists()) {
+				try (DataInputStream inputStream = new DataInputStream(
+						new BufferedInputStream(new FileInputStream(file)))) {
+					if (inputStream.readInt() == FILE_VERSION) {
+						for (int entities = inputStream.readInt(); entities > 0; entities--) {
+							String entityName = inputStream.readUTF();
+							long rowCount = inputStream.readLong();
+							int size = inputStream.readInt();
+							Map<Long, Long> hashes = new HashMap<>(size * 2);
+							for (int row = 0; row < size; row++) {
+								hashes.put(inputStream.readLong(), inputStream.readLong());
+							}
+							entityRowHashes.put(entityName, new EntityRowHashes(rowCount, hashes));
+						}
+					}
+				} catch (IOException ioException) {
+					LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+							ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+					entityRowHashes.clear();
+				}
+			}
+		}
+		return entityRowHashes;
+	}
+
+	/**
+	 * Builds the key of a row from the values of its primary key, as the
+	 * composite key classes do not implement toString
+	 *
+	 * @param identifier
+	 *            the primary key, or the entity itself for an id class mapping
+	 * @return the key, same for the same primary key values
+	 */
+	private static String getKey(Object identifier) throws IllegalAccessException {
+		if (identifier.getClass().getName().startsWith("java.") || identifier instanceof Enum) {
+			return identifier.toString();
+		}
+
+		StringBuilder key = new StringBuilder("[");
+		for (Field field : KEY_FIELDS.computeIfAbsent(identifier.getClass(), MasterDataChangeDetector::getKeyFields)) {
+			Object value = field.get(identifier);
+			key.append(field.getName()).append('=').append(value == null ? null : getKey(value)).append(',');
+		}
+		return key.append(']').toString();
+	}
+
+	private static List<Field> getKeyFields(Class<?> keyClass) {
+		List<Field> fields = new ArrayList<>();
+		List<Field> idFields = new ArrayList<>();
+		for (Class<?> type = keyClass; type != null && type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+					continue;
+				}
+				field.setAccessible(true);
+				fields.add(field);
+				if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class)) {
+					idFields.add(field);
+				}
+			}
+		}
+		// only the id fields of an entity, which is its own primary key
+		List<Field> keyFields = idFields.isEmpty() ? fields : idFields;
+		keyFields.sort(Comparator.comparing(Field::getName));
+		return keyFields;
+	}
+
+	/**
+	 * Changes of the synced rows of an entity. The rows are checked on a single
+	 * thread, and the counts are read once all the rows are checked.
+	 */
+	public static final class EntityChanges {
+
+		private final String entityName;
+
+		private final PersistenceUnitUtil persistenceUnitUtil;
+
+		/** hashes of the rows in the table, by the hash of the primary key */
+		private final Map<Long, Long> knownHashes;
+
+		/** true if the remembered hashes match the rows in the table */
+		private final boolean knownRows;
+
+		/** hashes of the rows of this sync, by the hash of the primary key */
+		private final Map<Long, Long> syncedHashes = new HashMap<>();
+
+		private MessageDigest messageDigest;
+
+		private boolean keyNotFound;
+
+		private int inserted;
+
+		private int updated;
+
+		private int deactivated;
+
+		private int unchanged;
+
+		private EntityChanges(String entityName, PersistenceUnitUtil persistenceUnitUtil,
+				Map<Long, Long> knownHashes) {
+			this.entityName = entityName;
+			this.persistenceUnitUtil = persistenceUnitUtil;
+			this.knownHashes = knownHashes == null ? Collections.emptyMap() : knownHashes;
+			this.knownRows = knownHashes != null;
+		}
+
+		/**
+		 * @param row
+		 *            the synced json row
+		 * @param entity
+		 *            the entity built from the row
+		 * @param active
+		 *            false if the row is deactivated
+		 * @return true if the row is to be saved
+		 */
+		public boolean isChanged(String row, Object entity, boolean active) {
+			Long keyHash = getKeyHash(entity);
+			if (keyHash != null) {
+				long rowHash = hash(row);
+				Long knownHash = knownHashes.get(keyHash);
+				syncedHashes.put(keyHash, rowHash);
+				if (knownHash != null && knownHash == rowHash) {
+					unchanged++;
+					return false;
+				}
+
+				if (!active) {
+					deactivated++;
+				} else if (knownHash == null && knownRows) {
+					inserted++;
+				} else {
+					updated++;
+				}
+				return true;
+			}
+
+			if (!active) {
+				deactivated++;
+			} else {
+				updated++;
+			}
+			return true;
+		}
+
+		private Long getKeyHash(Object entity) {
+			if (persistenceUnitUtil == null || keyNotFound) {
+				return null;
+			}
+			try {
+				Object identifier = persistenceUnitUtil.getIdentifier(entity);
+				return identifier == null ? null : hash(getKey(identifier));
+			} catch (RuntimeException | IllegalAccessException exception) {
+				keyNotFound = true;
+				LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Primary key of " + entityName
+						+ " not found, all the rows are saved : " + exception.getMessage());
+				return null;
+			}
+		}
+
+		private long hash(String value) {
+			try {
+				if (messageDigest == null) {
+					messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+				}
+				return ByteBuffer.wrap(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8))).getLong();
+			} catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+				throw new IllegalStateException(noSuchAlgorithmException);
+			}
+		}
+
+		public String getEntityName() {
+			return entityName;
+		}
+
+		/**
+		 * @return number of saved rows, which were not saved by the previous syncs
+		 */
+		public int getInserted() {
+			return inserted;
+		}
+
+		public int getUpdated() {
+			return updated;
+		}
+
+		public int getDeactivated() {
+			return deactivated;
+		}
+
+		public int getUnchanged() {
+			return unchanged;
+		}
+	}
+
+	private static final class EntityRowHashes {
+
+		private final long rowCount;
+
+		private final Map<Long, Long> hashes;
+
+		private EntityRowHashes(long rowCount, Map<Long, Long> hashes) {
+			this.rowCount = rowCount;
+			this.hashes = hashes;
+		}
+	}
+}
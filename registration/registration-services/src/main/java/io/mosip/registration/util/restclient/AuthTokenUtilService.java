@@ -24,7 +24,6 @@ import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -283,11 +282,9 @@ public class AuthTokenUtilService {
 
     private void setTimeout(RequestHTTPDTO requestHTTPDTO) {
         // Timeout in milli second
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setReadTimeout(
+        requestHTTPDTO.setReadTimeout(
                 Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_READ_TIMEOUT)));
-        requestFactory.setConnectTimeout(
+        requestHTTPDTO.setConnectTimeout(
                 Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_WRITE_TIMEOUT)));
-        requestHTTPDTO.setSimpleClientHttpRequestFactory(requestFactory);
     }
 }
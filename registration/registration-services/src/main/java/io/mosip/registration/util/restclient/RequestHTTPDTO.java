@@ -18,6 +18,8 @@ public class RequestHTTPDTO {
 	private Class<?> clazz;
 	private URI uri;
 	private SimpleClientHttpRequestFactory simpleClientHttpRequestFactory;
+	private int readTimeout;
+	private int connectTimeout;
 	private boolean isPregRegSync;
 	private boolean isAuthRequired;
 	private String authZHeader;
@@ -73,14 +75,52 @@ public class RequestHTTPDTO {
 		this.uri = uri;
 	}
 
+	/**
+	 * @deprecated the requests are sent through the pooled client of
+	 *             {@link RestClientUtil}, use the read and connect timeouts
+	 */
+	@Deprecated
 	public SimpleClientHttpRequestFactory getSimpleClientHttpRequestFactory() {
 		return simpleClientHttpRequestFactory;
 	}
 
+	/**
+	 * @deprecated the requests are sent through the pooled client of
+	 *             {@link RestClientUtil}, use the read and connect timeouts
+	 */
+	@Deprecated
 	public void setSimpleClientHttpRequestFactory(SimpleClientHttpRequestFactory simpleClientHttpRequestFactory) {
 		this.simpleClientHttpRequestFactory = simpleClientHttpRequestFactory;
 	}
 
+	/**
+	 * @return the read timeout in milliseconds
+	 */
+	public int getReadTimeout() {
+		return readTimeout;
+	}
+
+	/**
+	 * @param readTimeout the read timeout in milliseconds
+	 */
+	public void setReadTimeout(int readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * @return the connect timeout in milliseconds
+	 */
+	public int getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	/**
+	 * @param connectTimeout the connect timeout in milliseconds
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
 	public boolean isPregRegSync() {
 		return isPregRegSync;
 	}
@@ -3,20 +3,34 @@ package io.mosip.registration.util.restclient;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -44,6 +58,25 @@ public class RestClientUtil {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(RestClientUtil.class);
 
+	private static SSLContext trustAllSslContext;
+
+	/** Maximum number of open connections to the server */
+	@Value("${mosip.registration.http.pool.max-total:20}")
+	private int maxConnections;
+
+	/** Maximum number of open connections per host */
+	@Value("${mosip.registration.http.pool.max-per-route:10}")
+	private int maxConnectionsPerRoute;
+
+	/** Idle connections are closed after these many seconds */
+	@Value("${mosip.registration.http.pool.idle-timeout:30}")
+	private long idleConnectionTimeout;
+
+	private CloseableHttpClient httpClient;
+
+	/** Rest templates sharing the pooled client, one for each timeout profile */
+	private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
 	/**
 	 * Actual exchange using rest template.
 	 *
@@ -71,22 +104,10 @@ public class RestClientUtil {
 	}
 
 	private Map<String, Object> invokeURL(RequestHTTPDTO requestHTTPDTO) {
-		RestTemplate restTemplate = new RestTemplate();
+		RestTemplate restTemplate = getRestTemplate(requestHTTPDTO);
 		ResponseEntity<?> responseEntity = null;
 		Map<String, Object> responseMap = null;
-		restTemplate.setRequestFactory(requestHTTPDTO.getSimpleClientHttpRequestFactory());
-		//To-do need to be removed after checking this properly
-		try {
-			if (requestHTTPDTO.getUri().toString().contains("https"))
-				turnOffSslChecking();
-		} catch (KeyManagementException keyManagementException) {
-			LOGGER.error("REGISTRATION - REST_CLIENT_UTIL - INVOKE", APPLICATION_NAME, APPLICATION_ID,
-					keyManagementException.getMessage() + ExceptionUtils.getStackTrace(keyManagementException));
-		} catch (NoSuchAlgorithmException noSuchAlgorithmException) {
-			LOGGER.error("REGISTRATION - REST_CLIENT_UTIL - INVOKE", APPLICATION_NAME, APPLICATION_ID,
-					noSuchAlgorithmException.getMessage() + ExceptionUtils.getStackTrace(noSuchAlgorithmException));
-		}
-		
+
 		responseEntity = restTemplate.exchange(requestHTTPDTO.getUri(), requestHTTPDTO.getHttpMethod(),
 				requestHTTPDTO.getHttpEntity(), requestHTTPDTO.getClazz());
 		
@@ -128,6 +149,73 @@ public class RestClientUtil {
 		return invokeURL(requestHTTPDTO);
 	}
 
+	/**
+	 * Rest template for the timeouts of the request. The rest templates share the
+	 * pooled client, which keeps the connections alive and reuses the TLS
+	 * sessions across the requests. Gzip responses are decompressed by the
+	 * client.
+	 *
+	 * @param requestHTTPDTO
+	 * 				the request HTTPDTO
+	 * @return the {@link RestTemplate}
+	 */
+	private RestTemplate getRestTemplate(RequestHTTPDTO requestHTTPDTO) {
+		int connectTimeout = requestHTTPDTO.getConnectTimeout();
+		int readTimeout = requestHTTPDTO.getReadTimeout();
+		return restTemplates.computeIfAbsent(connectTimeout + ":" + readTimeout, timeoutProfile -> {
+			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+					getHttpClient());
+			requestFactory.setConnectTimeout(connectTimeout);
+			requestFactory.setConnectionRequestTimeout(connectTimeout);
+			requestFactory.setReadTimeout(readTimeout);
+			return new RestTemplate(requestFactory);
+		});
+	}
+
+	private synchronized CloseableHttpClient getHttpClient() {
+		if (httpClient == null) {
+			SSLConnectionSocketFactory sslSocketFactory;
+			try {
+				sslSocketFactory = new SSLConnectionSocketFactory(getTrustAllSslContext());
+			} catch (KeyManagementException | NoSuchAlgorithmException exception) {
+				LOGGER.error("REGISTRATION - REST_CLIENT_UTIL - HTTP_CLIENT", APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+				sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+			}
+
+			Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+					.register("http", PlainConnectionSocketFactory.getSocketFactory())
+					.register("https", sslSocketFactory).build();
+			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+					socketFactoryRegistry);
+			connectionManager.setMaxTotal(Math.max(1, maxConnections));
+			connectionManager.setDefaultMaxPerRoute(Math.max(1, maxConnectionsPerRoute));
+			// connections dropped by the network while idle are checked before reuse
+			connectionManager.setValidateAfterInactivity(2000);
+
+			httpClient = HttpClients.custom().setConnectionManager(connectionManager).evictExpiredConnections()
+					.evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS).build();
+
+			LOGGER.info("REGISTRATION - REST_CLIENT_UTIL - HTTP_CLIENT", APPLICATION_NAME, APPLICATION_ID,
+					"Pooled http client created with max connections : " + connectionManager.getMaxTotal());
+		}
+		return httpClient;
+	}
+
+	@PreDestroy
+	public synchronized void closeHttpClient() {
+		if (httpClient != null) {
+			try {
+				httpClient.close();
+			} catch (IOException ioException) {
+				LOGGER.error("REGISTRATION - REST_CLIENT_UTIL - HTTP_CLIENT", APPLICATION_NAME, APPLICATION_ID,
+						ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+			}
+			httpClient = null;
+			restTemplates.clear();
+		}
+	}
+
 	/**
 	 * Turn off ssl checking.
 	 *
@@ -136,11 +224,23 @@ public class RestClientUtil {
 	 * @throws KeyManagementException 
 	 * 				the key management exception
 	 */
-	public static void turnOffSslChecking() throws NoSuchAlgorithmException, KeyManagementException {
+	public static synchronized void turnOffSslChecking() throws NoSuchAlgorithmException, KeyManagementException {
 		// Install the all-trusting trust manager
-		final SSLContext sc = SSLContext.getInstance("SSL");
-		sc.init(null, UNQUESTIONING_TRUST_MANAGER, null);
-		HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
+		HttpsURLConnection.setDefaultSSLSocketFactory(getTrustAllSslContext().getSocketFactory());
+	}
+
+	/**
+	 * The all-trusting SSL context is created once and shared, so that the TLS
+	 * sessions cached by it are reused
+	 */
+	private static synchronized SSLContext getTrustAllSslContext()
+			throws NoSuchAlgorithmException, KeyManagementException {
+		if (trustAllSslContext == null) {
+			SSLContext sslContext = SSLContext.getInstance("SSL");
+			sslContext.init(null, UNQUESTIONING_TRUST_MANAGER, null);
+			trustAllSslContext = sslContext;
+		}
+		return trustAllSslContext;
 	}
 
 	/** The Constant UNQUESTIONING_TRUST_MANAGER. */
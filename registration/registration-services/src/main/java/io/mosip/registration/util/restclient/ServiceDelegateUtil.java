@@ -21,7 +21,6 @@ import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -36,6 +35,7 @@ import io.mosip.registration.constants.LoggerConstants;
 import io.mosip.registration.constants.LoginMode;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.context.GlobalConfig;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.dto.AuthNClientIDDTO;
 import io.mosip.registration.dto.AuthNRequestDTO;
@@ -315,7 +315,7 @@ public class ServiceDelegateUtil {
 		} catch (URISyntaxException uriSyntaxException) {
 		}
 		// set timeout
-		setTimeout(requestHTTPDTO);
+		setTimeout(requestHTTPDTO, serviceName);
 		// Headers
 		setHeaders(requestHTTPDTO.getHttpHeaders(), getEnvironmentProperty(serviceName, RegistrationConstants.HEADERS));
 		requestHTTPDTO.setAuthRequired(false);
@@ -485,7 +485,7 @@ public class ServiceDelegateUtil {
 		requestHTTPDTO.setHttpHeaders(new HttpHeaders());
 		requestHTTPDTO.setRequestBody(requestBody);
 		// set timeout
-		setTimeout(requestHTTPDTO);
+		setTimeout(requestHTTPDTO, serviceName);
 		// Headers
 		setHeaders(requestHTTPDTO.getHttpHeaders(), getEnvironmentProperty(serviceName, RegistrationConstants.HEADERS));
 
@@ -494,18 +494,32 @@ public class ServiceDelegateUtil {
 	}
 
 	/**
-	 * Method to set the request timeout
+	 * Method to set the request timeout. The timeouts configured for the service
+	 * take precedence over the global timeouts.
 	 * 
 	 * @param requestHTTPDTO
+	 * @param serviceName
+	 *            the service name, null if the service has no configuration
 	 */
-	private void setTimeout(RequestHTTPDTO requestHTTPDTO) {
+	private void setTimeout(RequestHTTPDTO requestHTTPDTO, String serviceName) {
 		// Timeout in milli second
-		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		requestFactory.setReadTimeout(
-				Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_READ_TIMEOUT)));
-		requestFactory.setConnectTimeout(
-				Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_WRITE_TIMEOUT)));
-		requestHTTPDTO.setSimpleClientHttpRequestFactory(requestFactory);
+		requestHTTPDTO.setReadTimeout(getTimeout(serviceName, RegistrationConstants.READ_TIMEOUT,
+				RegistrationConstants.HTTP_API_READ_TIMEOUT));
+		requestHTTPDTO.setConnectTimeout(getTimeout(serviceName, RegistrationConstants.CONNECT_TIMEOUT,
+				RegistrationConstants.HTTP_API_WRITE_TIMEOUT));
+	}
+
+	private int getTimeout(String serviceName, String serviceComponent, String globalTimeoutKey) {
+		String timeout = serviceName == null ? null : getEnvironmentProperty(serviceName, serviceComponent);
+		if (timeout != null && !timeout.trim().isEmpty()) {
+			return Integer.parseInt(timeout.trim());
+		}
+
+		Integer globalTimeout = GlobalConfig.of(ApplicationContext.map()).getInteger(globalTimeoutKey);
+		if (globalTimeout == null) {
+			throw new NumberFormatException("Invalid timeout configuration : " + globalTimeoutKey);
+		}
+		return globalTimeout;
 	}
 
 	private AuthNRequestDTO prepareAuthNRequestDTO(LoginMode loginMode) {
@@ -580,8 +594,8 @@ public class ServiceDelegateUtil {
 		requestHTTPDTO.setIsSignRequired(false);
 		requestHTTPDTO.setRequestSignRequired(false);
 
-		// set simple client http request
-		setTimeout(requestHTTPDTO);
+		// set timeout
+		setTimeout(requestHTTPDTO, null);
 
 		return requestHTTPDTO;
 	}
@@ -178,8 +178,6 @@ public class FingerprintValidatorImpl extends AuthenticationBaseValidator {
 	@Override
 	public boolean bioMerticsValidator(List<BiometricsDto> listOfBiometrics) {
 
-		List<UserBiometric> userDetailsRecorded = userDetailDAO
-				.getUserSpecificBioDetails(SessionContext.userContext().getUserId(), RegistrationConstants.FIN);
 		boolean flag = false;
 		for (BiometricsDto biometricDTO : listOfBiometrics) {
 			BIR capturedBir = new BIRBuilder().withBdb(biometricDTO.getAttributeISO())
@@ -187,14 +185,6 @@ public class FingerprintValidatorImpl extends AuthenticationBaseValidator {
 							new BDBInfo.BDBInfoBuilder().withType(Collections.singletonList(SingleType.FINGER)).build())
 					.build();
 
-			BIR[] registeredBir = new BIR[userDetailsRecorded.size()];
-			int i = 0;
-			for (UserBiometric userBiometric : userDetailsRecorded) {
-				registeredBir[i] = new BIRBuilder().withBdb(userBiometric.getBioIsoImage()).withBdbInfo(
-						new BDBInfo.BDBInfoBuilder().withType(Collections.singletonList(SingleType.FINGER)).build())
-						.build();
-				i++;
-			}
 			try {
 				/*Response<MatchDecision[]> scores = ibioApi.match(capturedBir, registeredBir, null);
 				System.out.println(scores);*/
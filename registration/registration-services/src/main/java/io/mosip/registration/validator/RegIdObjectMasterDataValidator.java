@@ -4,17 +4,19 @@ import static io.mosip.registration.constants.LoggerConstants.REG_ID_OBJECT_MAST
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.PostConstruct;
 
@@ -23,12 +25,10 @@ import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.Configuration;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.Option;
 
+import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.idobjectvalidator.constant.IdObjectValidatorErrorConstant;
 import io.mosip.kernel.core.idobjectvalidator.exception.IdObjectIOException;
@@ -44,10 +44,9 @@ import io.mosip.registration.dao.MasterSyncDao;
 import io.mosip.registration.entity.DocumentCategory;
 import io.mosip.registration.entity.DocumentType;
 import io.mosip.registration.entity.Gender;
-import io.mosip.registration.entity.Language;
 import io.mosip.registration.entity.Location;
 import io.mosip.registration.entity.ValidDocument;
-import net.minidev.json.JSONArray;
+import io.mosip.registration.util.common.BoundedExecutors;
 
 /**
  * This class validates the user selected (which is provided by the UI layer)
@@ -70,48 +69,69 @@ public class RegIdObjectMasterDataValidator {
 	@Autowired
 	private ObjectMapper mapper;
 
-	/** The Constant READ_OPTIONS. */
-	private static final Configuration READ_OPTIONS = Configuration.defaultConfiguration()
-			.addOptions(Option.SUPPRESS_EXCEPTIONS);
+	private static final String LANGUAGE = "language";
 
-	/** The Constant PATH_LIST_OPTIONS. */
-	private static final Configuration PATH_LIST_OPTIONS = Configuration.defaultConfiguration()
-			.addOptions(Option.SUPPRESS_EXCEPTIONS, Option.AS_PATH_LIST, Option.ALWAYS_RETURN_LIST);
+	private static final String VALUE = IdObjectValidatorConstant.IDENTITY_ARRAY_VALUE_FIELD.getValue();
 
-	/** The language list. */
-	private List<String> languageList;
+	private static final String DOCUMENT_TYPE = "type";
 
-	/** The gender map. */
-	private SetValuedMap<String, String> genderMap;
+	/** The lookup sets built from the master data, replaced as a whole on refresh. */
+	private volatile MasterDataRules masterDataRules;
 
-	/** The doc cat map. */
-	private SetValuedMap<String, String> docCatMap;
+	/** true if a refresh is submitted, but not started yet */
+	private final AtomicBoolean refreshPending = new AtomicBoolean();
 
-	/** The doc type map. */
-	private SetValuedMap<String, String> docTypeMap;
-
-	/** The location hierarchy details. */
-	private SetValuedMap<String, String> locationHierarchyDetails;
-
-	/** The location details. */
-	private Map<String, SetValuedMap<String, String>> locationDetails;
+	private ExecutorService refreshExecutor;
 
 	/**
 	 * Load data.
 	 */
 	@PostConstruct
 	public void loadData() {
+		masterDataRules = buildMasterDataRules();
+	}
+
+	/**
+	 * Rebuilds the lookup sets from the synced master data on a background
+	 * thread, the current lookup sets are used until the new ones are built.
+	 * Refreshes requested while one is waiting to start are merged into it.
+	 */
+	public void refresh() {
+		if (refreshPending.compareAndSet(false, true)) {
+			getRefreshExecutor().execute(() -> {
+				refreshPending.set(false);
+				try {
+					masterDataRules = buildMasterDataRules();
+				} catch (RuntimeException runtimeException) {
+					LOGGER.error(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
+							"Refreshing master data failed, previous data is used : "
+									+ ExceptionUtils.getStackTrace(runtimeException));
+				}
+			});
+		}
+	}
+
+	private MasterDataRules buildMasterDataRules() {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading data has been started post construct");
+				"Loading data has been started");
+		long start = System.currentTimeMillis();
 
-		loadLanguages();
-		loadGenderTypes();
-		loadLocationDetails();
-		loadDocCategories();
-		loadDocTypes();
+		SetValuedMap<String, String> locationHierarchyDetails = new HashSetValuedHashMap<>();
+		Map<String, SetValuedMap<String, String>> locationDetails = new HashMap<>();
+		loadLocationDetails(locationHierarchyDetails, locationDetails);
+		MasterDataRules rules = new MasterDataRules(loadLanguages(), loadGenderTypes(),
+				loadDocTypes(loadDocCategories()), locationHierarchyDetails, locationDetails);
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID, "Loading data has ended");
+		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
+				"Loading data has ended in (ms) : " + (System.currentTimeMillis() - start));
+		return rules;
+	}
 
+	private synchronized ExecutorService getRefreshExecutor() {
+		if (refreshExecutor == null) {
+			refreshExecutor = BoundedExecutors.newDaemonExecutor("master-data-validator", 1);
+		}
+		return refreshExecutor;
 	}
 
 	/*
@@ -128,16 +148,11 @@ public class RegIdObjectMasterDataValidator {
 				"Validating ID object has been started");
 
 		try {
-			String identityString = mapper.writeValueAsString(identityObject);
+			JsonNode identity = mapper.valueToTree(identityObject);
 			List<ServiceError> errorList = new ArrayList<>();
-			validateLanguage(identityString, errorList);
-			validateGender(identityString, errorList);
-			validateRegion(identityString, errorList);
-			validateProvince(identityString, errorList);
-			validateCity(identityString, errorList);
-			//validatePostalCode(identityString, errorList);
-			validateLocalAdministrativeAuthority(identityString, errorList);
-			validateDocuments(identityString, errorList);
+			if (identity != null) {
+				masterDataRules.validate(identity.path(IdObjectValidatorConstant.ROOT_PATH.getValue()), errorList);
+			}
 			LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 					"Validating ID object has been ended");
 			if (errorList.isEmpty()) {
@@ -148,7 +163,7 @@ public class RegIdObjectMasterDataValidator {
 				throw new IdObjectValidationFailedException(IdObjectValidatorErrorConstant.ID_OBJECT_VALIDATION_FAILED,
 						errorList);
 			}
-		} catch (JsonProcessingException e) {
+		} catch (IllegalArgumentException e) {
 			throw new IdObjectIOException(IdObjectValidatorErrorConstant.ID_OBJECT_PARSING_FAILED, e);
 		}
 	}
@@ -156,416 +171,234 @@ public class RegIdObjectMasterDataValidator {
 	/**
 	 * Load languages.
 	 */
-	private void loadLanguages() {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading languages has been started");
-
-		List<Language> langList = masterSyncDao.getActiveLanguages();
-		languageList = new ArrayList<>();
-		if (!langList.isEmpty()) {
-			langList.forEach(lang -> {
-				languageList.add(lang.getCode());
-			});
-		}
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading languages has been ended");
+	private List<String> loadLanguages() {
+		List<String> languageList = new ArrayList<>();
+		masterSyncDao.getActiveLanguages().forEach(lang -> languageList.add(lang.getCode()));
+		return languageList;
 	}
 
 	/**
 	 * Load gender types.
 	 */
-	private void loadGenderTypes() {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading gender types has been started");
-
+	private SetValuedMap<String, String> loadGenderTypes() {
 		List<Gender> genderList = masterSyncDao.getGenders();
-		if (!genderList.isEmpty()) {
-			genderMap = new HashSetValuedHashMap<>(genderList.size());
-			genderList.forEach(gender -> {
-				genderMap.put(gender.getLangCode(), gender.getGenderName());
-			});
+		if (genderList.isEmpty()) {
+			return null;
 		}
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading gender types has been ended");
-
+		SetValuedMap<String, String> genderMap = new HashSetValuedHashMap<>(genderList.size());
+		genderList.forEach(gender -> genderMap.put(gender.getLangCode(), gender.getGenderName()));
+		return genderMap;
 	}
 
 	/**
 	 * Load doc categories.
+	 * 
+	 * @return the document category codes by language
 	 */
-	private void loadDocCategories() {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading document categories has been started");
-
+	private SetValuedMap<String, String> loadDocCategories() {
 		List<DocumentCategory> docList = masterSyncDao.getDocumentCategory();
-		if (!docList.isEmpty()) {
-			docCatMap = new HashSetValuedHashMap<>(docList.size());
-			docList.forEach(doc -> {
-				docCatMap.put(doc.getLangCode(), doc.getCode());
-			});
-		}
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading document categories has been ended");
+		SetValuedMap<String, String> docCatMap = new HashSetValuedHashMap<>(docList.size());
+		docList.forEach(doc -> docCatMap.put(doc.getLangCode(), doc.getCode()));
+		return docCatMap;
 	}
 
 	/**
-	 * Load doc types.
+	 * Load doc types, from one query of the valid documents and one of the
+	 * document types.
+	 * 
+	 * @param docCatMap
+	 *            the document category codes by language
+	 * @return the document type codes by document category
 	 */
-	private void loadDocTypes() {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading document types has been started");
-
-		docTypeMap = new HashSetValuedHashMap<>();
-		if (Objects.nonNull(docCatMap) && !docCatMap.isEmpty()) {
-			docCatMap.keySet().stream().forEach(langCode -> docCatMap.get(langCode).stream().forEach(docCat -> {
-				List<ValidDocument> masterValidDocuments = masterSyncDao.getValidDocumets(docCat);
-
-				List<String> validDocuments = new ArrayList<>();
-				masterValidDocuments.forEach(docs -> {
-					validDocuments.add(docs.getDocTypeCode());
-				});
-
-				List<DocumentType> masterDocuments = masterSyncDao.getDocumentTypes(validDocuments, langCode);
-				if (!masterDocuments.isEmpty()) {
-					masterDocuments.forEach(docType -> {
-						docTypeMap.put(docCat, docType.getCode());
-					});
-				}
-			}));
+	private SetValuedMap<String, String> loadDocTypes(SetValuedMap<String, String> docCatMap) {
+		SetValuedMap<String, String> docTypeMap = new HashSetValuedHashMap<>();
+		if (docCatMap.isEmpty()) {
+			return docTypeMap;
+		}
+
+		SetValuedMap<String, String> validDocuments = new HashSetValuedHashMap<>();
+		for (ValidDocument validDocument : masterSyncDao.getValidDocuments()) {
+			validDocuments.put(validDocument.getDocCategoryCode(), validDocument.getDocTypeCode());
+		}
+		SetValuedMap<String, String> documentTypes = new HashSetValuedHashMap<>();
+		for (DocumentType documentType : masterSyncDao.getDocumentTypes()) {
+			documentTypes.put(documentType.getLangCode(), documentType.getCode());
 		}
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading document types has been ended");
 
+		docCatMap.entries().forEach(docCat -> {
+			Set<String> langDocumentTypes = documentTypes.get(docCat.getKey());
+			validDocuments.get(docCat.getValue()).stream().filter(langDocumentTypes::contains)
+					.forEach(docType -> docTypeMap.put(docCat.getValue(), docType));
+		});
+		return docTypeMap;
 	}
 
 	/**
-	 * Load location details.
+	 * Load location details, in a single pass of the locations. The hierarchy
+	 * names are compared ignoring the case.
+	 * 
+	 * @param locationHierarchyDetails
+	 *            filled with the hierarchy names by hierarchy level
+	 * @param locationDetails
+	 *            filled with the location names by language, by hierarchy name
 	 */
-	private void loadLocationDetails() {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading location details has been started");
-
-		locationHierarchyDetails = new HashSetValuedHashMap<>();
-		locationDetails = new LinkedHashMap<>();
+	private void loadLocationDetails(SetValuedMap<String, String> locationHierarchyDetails,
+			Map<String, SetValuedMap<String, String>> locationDetails) {
 		List<Location> locationList = masterSyncDao.getLocationDetails();
-		if (!locationList.isEmpty()) {
-			locationList.forEach(location -> {
-				locationHierarchyDetails.put(String.valueOf(location.getHierarchyLevel()), location.getHierarchyName());
-				locationDetails.put(location.getHierarchyName(), null);
-			});
-
-			Set<String> locationHierarchyNames = locationDetails.keySet().stream().collect(Collectors.toSet());
-			locationHierarchyNames.stream().forEach(hierarchyName -> {
-				SetValuedMap<String, String> locations = new HashSetValuedHashMap<>();
-				locationList.forEach(location -> {
-					if (location.getHierarchyName().equalsIgnoreCase(hierarchyName)) {
-						locations.put(location.getLangCode(), location.getName());
-					}
-					if (StringUtils.isNotBlank(RegistrationConstants.AUDIT_DEFAULT_USER)) {
-						locations.put(location.getLangCode(),
-								StringUtils.trim(RegistrationConstants.AUDIT_DEFAULT_USER));
-					}
-				});
-				locationDetails.put(hierarchyName, locations);
-			});
+		Set<String> langCodes = new HashSet<>();
+		for (Location location : locationList) {
+			String hierarchyName = location.getHierarchyName().toLowerCase(Locale.ROOT);
+			locationHierarchyDetails.put(String.valueOf(location.getHierarchyLevel()), hierarchyName);
+			locationDetails.computeIfAbsent(hierarchyName, name -> new HashSetValuedHashMap<>())
+					.put(location.getLangCode(), location.getName());
+			langCodes.add(location.getLangCode());
 		}
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading location details has been ended");
-
+		// the default value is valid in every language of every hierarchy
+		if (StringUtils.isNotBlank(RegistrationConstants.AUDIT_DEFAULT_USER)) {
+			String defaultValue = StringUtils.trim(RegistrationConstants.AUDIT_DEFAULT_USER);
+			locationDetails.values()
+					.forEach(locations -> langCodes.forEach(langCode -> locations.put(langCode, defaultValue)));
+		}
 	}
 
 	/**
-	 * Validate language.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
+	 * @return the path of the attribute in the error message
 	 */
-	private void validateLanguage(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating language has been started");
-		JsonPath jsonPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_LANGUAGE_PATH.getValue());
-		JSONArray pathList = jsonPath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, String> dataMap = IntStream.range(0, pathList.size()).boxed().parallel()
-				.collect(Collectors.toMap(i -> String.valueOf(pathList.get(i)),
-						i -> JsonPath.compile(String.valueOf(pathList.get(i))).read(identityString, READ_OPTIONS)));
-		dataMap.entrySet().stream().filter(entry -> !languageList.contains(entry.getValue()))
-				.forEach(entry -> errorList
-						.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-								String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-										convertToPath(entry.getKey())))));
+	private static String toPath(String... names) {
+		return String.join(IdObjectValidatorConstant.PATH_SEPERATOR.getValue(), names);
+	}
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating language has been ended");
+	private static String textOf(JsonNode node) {
+		return node != null && node.isTextual() ? node.textValue() : null;
 	}
 
 	/**
-	 * Validate gender.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
+	 * Lookup sets of the master data, keyed by the identity attributes which are
+	 * validated against them. The attribute names are taken from the json paths
+	 * of {@link IdObjectValidatorConstant} and
+	 * {@link IdObjectReferenceValidatorDocumentMapping} once, when the master data
+	 * is loaded.
 	 */
-	private void validateGender(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating Gender has been started");
-
-		JsonPath genderLangPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_GENDER_LANGUAGE_PATH.getValue());
-		List<String> genderLangPathList = genderLangPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath genderValuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_GENDER_VALUE_PATH.getValue());
-		List<String> genderValuePathList = genderValuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, genderLangPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(genderLangPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(genderLangPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(genderValuePathList.get(i),
-								JsonPath.compile(genderValuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return genderMap.containsKey(lang) && !genderMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating Gender has been ended");
+	private static final class MasterDataRules {
 
-	}
+		private final Set<String> languages;
 
-	/**
-	 * Validate region.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateRegion(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating region has been started");
-
-		SetValuedMap<String, String> regionMap = new HashSetValuedHashMap<>();
-		Set<String> regionNameList = locationHierarchyDetails.get(IdObjectReferenceValidatorLocationMapping.REGION.getLevel());
-		Optional.ofNullable(regionNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> regionMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_REGION_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_REGION_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return regionMap.containsKey(lang) && !regionMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
+		/** values by language of the gender and location attributes */
+		private final Map<String, Map<String, Set<String>>> valuesByAttribute = new HashMap<>();
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating region has been ended");
-	}
+		/** document types of the document attributes */
+		private final Map<String, Set<String>> documentTypesByAttribute = new HashMap<>();
 
-	/**
-	 * Validate province.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateProvince(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating province has been started");
-
-		SetValuedMap<String, String> provinceMap = new HashSetValuedHashMap<>();
-		Set<String> provinceNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.PROVINCE.getLevel());
-		Optional.ofNullable(provinceNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> provinceMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_PROVINCE_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_PROVINCE_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return provinceMap.containsKey(lang) && !provinceMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating province has been ended");
-	}
+		private MasterDataRules(List<String> languageList, SetValuedMap<String, String> genderMap,
+				SetValuedMap<String, String> docTypeMap, SetValuedMap<String, String> locationHierarchyDetails,
+				Map<String, SetValuedMap<String, String>> locationDetails) {
+			languages = new HashSet<>(languageList);
 
-	/**
-	 * Validate city.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateCity(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating city has been started");
-
-		SetValuedMap<String, String> cityMap = new HashSetValuedHashMap<>();
-		Set<String> cityNameList = locationHierarchyDetails.get(IdObjectReferenceValidatorLocationMapping.CITY.getLevel());
-		Optional.ofNullable(cityNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> cityMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_CITY_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_CITY_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return cityMap.containsKey(lang) && !cityMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating city has been ended");
-	}
+			if (genderMap != null) {
+				valuesByAttribute.put(getAttributeName(IdObjectValidatorConstant.IDENTITY_GENDER_VALUE_PATH),
+						toLookup(genderMap));
+			}
 
-	/**
-	 * Validate local administrative authority.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateLocalAdministrativeAuthority(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating local administrative authority has been started");
-
-		SetValuedMap<String, String> localAdministrativeAuthorityMap = new HashSetValuedHashMap<>();
-		Set<String> localAdminAuthNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.ZONE.getLevel());
-		Optional.ofNullable(localAdminAuthNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> localAdministrativeAuthorityMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath
-				.compile(IdObjectValidatorConstant.IDENTITY_ZONE_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath
-				.compile(IdObjectValidatorConstant.IDENTITY_ZONE_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return localAdministrativeAuthorityMap.containsKey(lang)
-					&& !localAdministrativeAuthorityMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
+			Map<IdObjectReferenceValidatorLocationMapping, IdObjectValidatorConstant> locationPaths = new LinkedHashMap<>();
+			locationPaths.put(IdObjectReferenceValidatorLocationMapping.REGION,
+					IdObjectValidatorConstant.IDENTITY_REGION_VALUE_PATH);
+			locationPaths.put(IdObjectReferenceValidatorLocationMapping.PROVINCE,
+					IdObjectValidatorConstant.IDENTITY_PROVINCE_VALUE_PATH);
+			locationPaths.put(IdObjectReferenceValidatorLocationMapping.CITY,
+					IdObjectValidatorConstant.IDENTITY_CITY_VALUE_PATH);
+			locationPaths.put(IdObjectReferenceValidatorLocationMapping.ZONE,
+					IdObjectValidatorConstant.IDENTITY_ZONE_VALUE_PATH);
+			locationPaths.forEach((location, path) -> {
+				SetValuedMap<String, String> locationMap = new HashSetValuedHashMap<>();
+				Optional.ofNullable(locationHierarchyDetails.get(location.getLevel())).orElse(Collections.emptySet())
+						.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
+								.ifPresent(locationMap::putAll));
+				valuesByAttribute.put(getAttributeName(path), toLookup(locationMap));
+			});
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating local administrative authority has been ended");
-	}
+			IdObjectReferenceValidatorDocumentMapping.getAllMapping().forEach((docCategory, attributeName) -> {
+				if (docTypeMap.containsKey(docCategory)) {
+					documentTypesByAttribute.put(attributeName, new HashSet<>(docTypeMap.get(docCategory)));
+				}
+			});
+		}
 
-	/**
-	 * Validate postal code.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validatePostalCode(String identityString, List<ServiceError> errorList) {
-		SetValuedMap<String, String> postalCodeMap = new HashSetValuedHashMap<>();
-		Set<String> postalCodeNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.POSTAL_CODE.getLevel());
-		Optional.ofNullable(postalCodeNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(postalCodeMap::putAll));
-		JsonPath jsonPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_POSTAL_CODE_PATH.getValue());
-		String value = jsonPath.read(identityString, READ_OPTIONS);
-		if (Objects.nonNull(value) && !postalCodeMap.values().contains(value)) {
-			errorList.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-					String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-							convertToPath(jsonPath.getPath()))));
+		/**
+		 * @return the attribute name of the path, identity.&lt;attribute&gt;.*.value
+		 */
+		private static String getAttributeName(IdObjectValidatorConstant path) {
+			return path.getValue().split("\\.")[1];
 		}
-	}
 
-	/**
-	 * Validate documents.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateDocuments(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating documents has been started");
-
-		IdObjectReferenceValidatorDocumentMapping.getAllMapping().entrySet().stream()
-				.filter(entry -> docTypeMap.containsKey(entry.getKey())).forEach(entry -> {
-					JsonPath jsonPath = JsonPath.compile("identity." + entry.getValue() + ".type");
-					Object value = jsonPath.read(identityString, READ_OPTIONS);
-					if (Objects.nonNull(value) && !docTypeMap.get(entry.getKey()).contains(value)) {
-						errorList.add(
-								new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-										String.format(
-												IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-												convertToPath(jsonPath.getPath()))));
+		private static Map<String, Set<String>> toLookup(SetValuedMap<String, String> setValuedMap) {
+			Map<String, Set<String>> lookup = new HashMap<>();
+			setValuedMap.keySet().forEach(key -> lookup.put(key, new HashSet<>(setValuedMap.get(key))));
+			return lookup;
+		}
+
+		/**
+		 * Validates all the attributes of the identity in a single pass
+		 *
+		 * @param identity
+		 *            the identity attributes
+		 * @param errorList
+		 *            the error list
+		 */
+		private void validate(JsonNode identity, List<ServiceError> errorList) {
+			String root = IdObjectValidatorConstant.ROOT_PATH.getValue();
+			Iterator<Map.Entry<String, JsonNode>> attributes = identity.fields();
+			while (attributes.hasNext()) {
+				Map.Entry<String, JsonNode> attribute = attributes.next();
+				String attributeName = attribute.getKey();
+				JsonNode attributeNode = attribute.getValue();
+
+				// language and value of each entry of identity.<attribute>.*
+				Map<String, Set<String>> values = valuesByAttribute.get(attributeName);
+				if (attributeNode.isArray()) {
+					for (int index = 0; index < attributeNode.size(); index++) {
+						validateEntry(attributeNode.get(index), values, errorList, root, attributeName,
+								String.valueOf(index));
 					}
-				});
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating documents has been ended");
-	}
+				} else if (attributeNode.isObject()) {
+					Iterator<Map.Entry<String, JsonNode>> entries = attributeNode.fields();
+					while (entries.hasNext()) {
+						Map.Entry<String, JsonNode> entry = entries.next();
+						validateEntry(entry.getValue(), values, errorList, root, attributeName, entry.getKey());
+					}
+				}
 
-	/**
-	 * Convert to path.
-	 *
-	 * @param jsonPath
-	 *            the json path
-	 * @return the string
-	 */
-	private String convertToPath(String jsonPath) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"converting to path has been started");
+				// identity.<document attribute>.type
+				Set<String> documentTypes = documentTypesByAttribute.get(attributeName);
+				JsonNode documentType = attributeNode.get(DOCUMENT_TYPE);
+				if (documentTypes != null && documentType != null && !documentType.isNull()
+						&& !documentTypes.contains(textOf(documentType))) {
+					errorList.add(getError(toPath(root, attributeName, DOCUMENT_TYPE)));
+				}
+			}
+		}
 
-		String path = String.valueOf(jsonPath.replaceAll("[$']", ""));
+		private void validateEntry(JsonNode entry, Map<String, Set<String>> values, List<ServiceError> errorList,
+				String root, String attributeName, String key) {
+			if (!entry.isObject() || !entry.has(LANGUAGE)) {
+				return;
+			}
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"converting to path has been ended");
-		return path.substring(1, path.length() - 1).replace("][", "/");
+			String language = textOf(entry.get(LANGUAGE));
+			if (!languages.contains(language)) {
+				errorList.add(getError(toPath(root, attributeName, key, LANGUAGE)));
+				return;
+			}
+
+			if (values != null && entry.has(VALUE) && values.containsKey(language)
+					&& !values.get(language).contains(textOf(entry.get(VALUE)))) {
+				errorList.add(getError(toPath(root, attributeName, key, VALUE)));
+			}
+		}
+
+		private static ServiceError getError(String path) {
+			return new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
+					String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(), path));
+		}
 	}
 }
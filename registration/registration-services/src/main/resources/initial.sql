@@ -18,7 +18,7 @@ CREATE SCHEMA "AUDIT";
 -- DDL Statements for tables
 -- ----------------------------------------------
 
-CREATE TABLE "REG"."AUDIT_LOG_CONTROL" ("REG_ID" VARCHAR(39) NOT NULL, "AUDIT_LOG_FROM_DTIMES" TIMESTAMP NOT NULL, "AUDIT_LOG_TO_DTIMES" TIMESTAMP NOT NULL, "AUDIT_LOG_SYNC_DTIMES" TIMESTAMP, "AUDIT_LOG_PURGE_DTIMES" TIMESTAMP, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP);
+CREATE TABLE "REG"."AUDIT_LOG_CONTROL" ("REG_ID" VARCHAR(39) NOT NULL, "AUDIT_LOG_FROM_DTIMES" TIMESTAMP NOT NULL, "AUDIT_LOG_TO_DTIMES" TIMESTAMP NOT NULL, "AUDIT_LOG_TO_UUID" VARCHAR(64), "AUDIT_LOG_SYNC_DTIMES" TIMESTAMP, "AUDIT_LOG_PURGE_DTIMES" TIMESTAMP, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP);
 
 CREATE TABLE "REG"."LOCATION" ("CODE" VARCHAR(36) NOT NULL, "NAME" VARCHAR(128) NOT NULL, "HIERARCHY_LEVEL" SMALLINT NOT NULL, "HIERARCHY_LEVEL_NAME" VARCHAR(64) NOT NULL, "PARENT_LOC_CODE" VARCHAR(32), "LANG_CODE" VARCHAR(3) NOT NULL, "IS_ACTIVE" BOOLEAN NOT NULL, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP, "IS_DELETED" BOOLEAN, "DEL_DTIMES" TIMESTAMP);
 
@@ -268,6 +268,10 @@ ALTER TABLE "REG"."GENDER" ADD CONSTRAINT "PK_GNDR_CODE" PRIMARY KEY ("CODE", "L
 
 ALTER TABLE "AUDIT"."APP_AUDIT_LOG" ADD CONSTRAINT "PK_AUDLOG_LOG_ID" PRIMARY KEY ("LOG_ID");
 
+CREATE INDEX "AUDIT"."IDX_AUDLOG_LOG_DTIMES" ON "AUDIT"."APP_AUDIT_LOG" ("LOG_DTIMES", "LOG_ID");
+
+CREATE INDEX "AUDIT"."IDX_AUDLOG_REF_ID" ON "AUDIT"."APP_AUDIT_LOG" ("REF_ID");
+
 ALTER TABLE "REG"."KEY_POLICY_DEF" ADD CONSTRAINT "PK_KEYPDEF_ID" PRIMARY KEY ("APP_ID");
 
 ALTER TABLE "REG"."KEY_ALIAS" ADD CONSTRAINT "PK_KEYMALS_ID" PRIMARY KEY ("ID");
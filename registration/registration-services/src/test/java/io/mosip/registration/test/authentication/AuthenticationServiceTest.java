@@ -35,6 +35,7 @@ import io.mosip.registration.service.security.impl.AuthenticationServiceImpl;
 import io.mosip.registration.validator.AuthenticationBaseValidator;
 import io.mosip.registration.validator.FingerprintValidatorImpl;
 import io.mosip.registration.validator.OTPValidatorImpl;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
@@ -51,6 +52,9 @@ public class AuthenticationServiceTest {
 	@Mock
 	private LoginService loginService;
 
+	@Mock
+	private OperatorBiometricGallery operatorBiometricGallery;
+
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
 	
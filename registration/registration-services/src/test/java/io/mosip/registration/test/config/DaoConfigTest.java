@@ -91,4 +91,17 @@ public class DaoConfigTest {
 		PowerMockito.doReturn(decryptedData).when(ClientCryptoFacade.class, "decrypt", Mockito.any());
 		daoConfig.properties();
 	}
+
+	@Test
+	public void jpaPropertiesTest() {
+		PowerMockito.mockStatic(ApplicationContext.class);
+		PowerMockito.mockStatic(ClientCryptoFacade.class);
+
+		daoConfig = new DaoConfig();
+		Map<String, Object> jpaProperties = daoConfig.jpaProperties();
+		assertEquals("false", jpaProperties.get("hibernate.show_sql"));
+		assertEquals("false", jpaProperties.get("hibernate.format_sql"));
+		assertEquals("50", jpaProperties.get("hibernate.jdbc.batch_size"));
+		assertEquals("true", jpaProperties.get("hibernate.order_inserts"));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package io.mosip.registration.test.config;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.context.GlobalConfig;
+
+public class GlobalConfigTest {
+
+	private static final String SIZE_KEY = "global.config.test.size";
+
+	private static final String TIMEOUT_KEY = "global.config.test.timeout";
+
+	private final Set<String> changedKeys = new HashSet<>();
+
+	private final GlobalConfig.Listener listener = (globalConfig, keys) -> changedKeys.addAll(keys);
+
+	@Before
+	public void initialize() {
+		ApplicationContext.getInstance();
+		GlobalConfig.addListener(listener);
+	}
+
+	@After
+	public void cleanUp() {
+		GlobalConfig.removeListener(listener);
+		ApplicationContext.removeGlobalConfigValueOf(SIZE_KEY);
+		ApplicationContext.removeGlobalConfigValueOf(TIMEOUT_KEY);
+	}
+
+	@Test
+	public void typedValuesTest() {
+		Map<String, Object> configurations = new HashMap<>();
+		configurations.put(SIZE_KEY, "10");
+		configurations.put(TIMEOUT_KEY, " 60000 ");
+
+		GlobalConfig globalConfig = GlobalConfig.of(configurations);
+
+		Assert.assertEquals(Long.valueOf(10), globalConfig.getNumber(SIZE_KEY));
+		Assert.assertEquals(Integer.valueOf(60000), globalConfig.getInteger(TIMEOUT_KEY));
+		Assert.assertNull(globalConfig.getNumber(TIMEOUT_KEY));
+		Assert.assertNull(globalConfig.getInteger("global.config.test.missing"));
+	}
+
+	@Test
+	public void snapshotPublishedOnChangeTest() {
+		ApplicationContext.setGlobalConfigValueOf(SIZE_KEY, "10");
+		GlobalConfig globalConfig = GlobalConfig.of(ApplicationContext.map());
+
+		Assert.assertSame(globalConfig, GlobalConfig.of(ApplicationContext.map()));
+		Assert.assertTrue(changedKeys.contains(SIZE_KEY));
+
+		changedKeys.clear();
+		ApplicationContext.setGlobalConfigValueOf(SIZE_KEY, "10");
+		Assert.assertTrue(changedKeys.isEmpty());
+
+		ApplicationContext.setGlobalConfigValueOf(SIZE_KEY, "wjj");
+		GlobalConfig changedConfig = GlobalConfig.of(ApplicationContext.map());
+
+		Assert.assertNotSame(globalConfig, changedConfig);
+		Assert.assertEquals(Long.valueOf(10), globalConfig.getNumber(SIZE_KEY));
+		Assert.assertNull(changedConfig.getNumber(SIZE_KEY));
+		Assert.assertTrue(changedKeys.contains(SIZE_KEY));
+	}
+
+	@Test
+	public void nullValueRemovesKeyTest() {
+		ApplicationContext.map().put(TIMEOUT_KEY, "100");
+		ApplicationContext.map().put(TIMEOUT_KEY, null);
+
+		Assert.assertFalse(ApplicationContext.map().containsKey(TIMEOUT_KEY));
+		Assert.assertNull(GlobalConfig.of(ApplicationContext.map()).getString(TIMEOUT_KEY));
+	}
+}
@@ -19,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.registration.constants.RegistrationConstants;
@@ -75,6 +77,11 @@ public class AuditDAOTest {
 			public Timestamp getAuditLogFromDateTime() {
 				return null;
 			}
+
+			@Override
+			public String getAuditLogToUuid() {
+				return null;
+			}
 		}, "1234"), is(audits));
 	}
 
@@ -94,9 +101,76 @@ public class AuditDAOTest {
 			public Timestamp getAuditLogFromDateTime() {
 				return null;
 			}
+
+			@Override
+			public String getAuditLogToUuid() {
+				return null;
+			}
 		}, "1234"), is(audits));
 	}
 
+	@Test
+	public void testGetAuditsInPages() {
+		when(auditRepository.findByCreatedAtGreaterThanOrderByCreatedAtAscUuidAsc(Mockito.any(LocalDateTime.class),
+				Mockito.any(Pageable.class))).thenReturn(audits);
+		when(auditRepository.findAuditsAfter(Mockito.any(LocalDateTime.class), Mockito.anyString(),
+				Mockito.any(Pageable.class))).thenReturn(audits);
+
+		List<List<Audit>> pages = new ArrayList<>();
+		auditDAO.getAudits(new RegistrationAuditDates() {
+
+			@Override
+			public Timestamp getAuditLogToDateTime() {
+				return Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+			}
+
+			@Override
+			public Timestamp getAuditLogFromDateTime() {
+				return null;
+			}
+
+			@Override
+			public String getAuditLogToUuid() {
+				return null;
+			}
+		}, "1234", 2, 3, pages::add);
+
+		Assert.assertThat(pages.size(), is(2));
+		Mockito.verify(auditRepository).findAuditsAfter(audits.get(1).getCreatedAt(), audits.get(1).getUuid(),
+				PageRequest.of(0, 1));
+	}
+
+	@Test
+	public void testGetAuditsAfterLastPacketAudit() {
+		LocalDateTime auditLogToDateTime = LocalDateTime.now().minusDays(1);
+		when(auditRepository.findAuditsAfter(Mockito.any(LocalDateTime.class), Mockito.anyString(),
+				Mockito.any(Pageable.class))).thenReturn(audits);
+
+		List<List<Audit>> pages = new ArrayList<>();
+		auditDAO.getAudits(new RegistrationAuditDates() {
+
+			@Override
+			public Timestamp getAuditLogToDateTime() {
+				return Timestamp.valueOf(auditLogToDateTime);
+			}
+
+			@Override
+			public Timestamp getAuditLogFromDateTime() {
+				return null;
+			}
+
+			@Override
+			public String getAuditLogToUuid() {
+				return "last-uuid";
+			}
+		}, "1234", 5, 5, pages::add);
+
+		Assert.assertThat(pages.size(), is(1));
+		Mockito.verify(auditRepository).findAuditsAfter(auditLogToDateTime, "last-uuid", PageRequest.of(0, 5));
+		Mockito.verify(auditRepository, Mockito.never()).findByCreatedAtGreaterThanOrderByCreatedAtAscUuidAsc(
+				Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class));
+	}
+
 	@Test(expected = RegBaseUncheckedException.class)
 	public void testGetAuditsRuntimeException() {
 		when(auditRepository.findByIdOrderByCreatedAtAsc("1234"))
@@ -60,6 +60,11 @@ public class AuditLogControlTest {
 			public Timestamp getAuditLogFromDateTime() {
 				return Timestamp.valueOf(LocalDateTime.now().minusDays(1));
 			}
+
+			@Override
+			public String getAuditLogToUuid() {
+				return null;
+			}
 		};
 		when(auditLogControlRepository.findTopByOrderByCrDtimeDesc()).thenReturn(registrationAuditDates);
 
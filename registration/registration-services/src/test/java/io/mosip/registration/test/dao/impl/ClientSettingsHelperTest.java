@@ -4,27 +4,47 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
+import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.dao.impl.MasterSyncDaoImpl;
+import io.mosip.registration.dto.response.SyncDataBaseDto;
 import io.mosip.registration.dto.response.SyncDataResponseDto;
+import io.mosip.registration.entity.Gender;
+import io.mosip.registration.entity.ValidDocument;
+import io.mosip.registration.entity.id.ValidDocumentID;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.repositories.AppAuthenticationRepository;
 import io.mosip.registration.repositories.AppDetailRepository;
@@ -71,6 +91,9 @@ import io.mosip.registration.repositories.TitleRepository;
 import io.mosip.registration.repositories.UserMachineMappingRepository;
 import io.mosip.registration.repositories.ValidDocumentRepository;
 import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.mastersync.LocationHierarchyIndex;
+import io.mosip.registration.util.mastersync.MasterDataChangeDetector;
+import io.mosip.registration.util.mastersync.MasterDataCache;
 import io.mosip.registration.util.mastersync.MetaDataUtils;
 
 @RunWith(PowerMockRunner.class)
@@ -83,6 +106,9 @@ public class ClientSettingsHelperTest {
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Mock
 	private SyncJobControlRepository syncStatusRepository;
 
@@ -221,6 +247,24 @@ public class ClientSettingsHelperTest {
 	@Mock
 	private DeviceProviderRepository deviceProviderRepository;
 
+	@Mock
+	private ClientCryptoFacade clientCryptoFacade;
+
+	@Mock
+	private MasterDataCache masterDataCache;
+
+	@Mock
+	private LocationHierarchyIndex locationHierarchyIndex;
+
+	@Spy
+	private MasterDataChangeDetector masterDataChangeDetector = new MasterDataChangeDetector();
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private EntityManager entityManager;
+
 	@InjectMocks
 	private ClientSettingSyncHelper clientSettingSyncHelper;
 
@@ -259,6 +303,123 @@ public class ClientSettingsHelperTest {
 		clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testEntitiesSavedInChunks() {
+		String rows = "[\"{\\\"code\\\":\\\"MLE\\\",\\\"genderName\\\":\\\"Male\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\","
+				+ "\"{\\\"code\\\":\\\"FLE\\\",\\\"genderName\\\":\\\"Female\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\","
+				+ "\"{\\\"code\\\":\\\"OTH\\\",\\\"genderName\\\":\\\"Others\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\"]";
+		Mockito.when(clientCryptoFacade.decrypt(Mockito.any())).thenReturn(rows.getBytes());
+		ReflectionTestUtils.setField(clientSettingSyncHelper, "batchSize", 2);
+
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setDataToSync(Arrays.asList(new SyncDataBaseDto("Gender", "structured",
+				CryptoUtil.encodeBase64("gender".getBytes()))));
+
+		try {
+			clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			// schema sync is not possible without network
+		}
+
+		Mockito.verify(masterSyncGenderTypeRepository, Mockito.times(2)).saveAll(ArgumentMatchers.anyList());
+		Mockito.verify(masterSyncGenderTypeRepository)
+				.saveAll(ArgumentMatchers.argThat((Iterable<Gender> chunk) -> ((List<Gender>) chunk).size() == 1));
+		Mockito.verify(entityManager, Mockito.times(2)).flush();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testUnchangedCompositeKeyRowsSkipped() throws IOException {
+		String rows = "[\"{\\\"docTypeCode\\\":\\\"RNT\\\",\\\"docCategoryCode\\\":\\\"POA\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\","
+				+ "\"{\\\"docTypeCode\\\":\\\"RNT\\\",\\\"docCategoryCode\\\":\\\"POI\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\"]";
+		Mockito.when(clientCryptoFacade.decrypt(Mockito.any())).thenReturn(rows.getBytes());
+		Mockito.when(validDocumentRepository.count()).thenReturn(2L);
+
+		// hibernate builds a new id class instance for each row
+		PersistenceUnitUtil persistenceUnitUtil = Mockito.mock(PersistenceUnitUtil.class);
+		Mockito.when(persistenceUnitUtil.getIdentifier(Mockito.any())).thenAnswer(invocation -> {
+			ValidDocument validDocument = invocation.getArgument(0);
+			ValidDocumentID validDocumentID = new ValidDocumentID();
+			validDocumentID.setDocTypeCode(validDocument.getDocTypeCode());
+			validDocumentID.setDocCategoryCode(validDocument.getDocCategoryCode());
+			return validDocumentID;
+		});
+		EntityManagerFactory entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+		Mockito.when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+		ReflectionTestUtils.setField(masterDataChangeDetector, "enabled", true);
+		ReflectionTestUtils.setField(masterDataChangeDetector, "rowHashFile",
+				temporaryFolder.newFolder().getAbsolutePath() + "/row_hashes");
+		ReflectionTestUtils.setField(masterDataChangeDetector, "entityManagerFactory", entityManagerFactory);
+
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setDataToSync(Arrays.asList(new SyncDataBaseDto("ValidDocument", "structured",
+				CryptoUtil.encodeBase64("validDocument".getBytes()))));
+		for (int sync = 0; sync < 2; sync++) {
+			try {
+				clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+			} catch (RegBaseUncheckedException regBaseUncheckedException) {
+				// schema sync is not possible without network
+			}
+		}
+
+		// saved by the first sync only
+		Mockito.verify(validDocumentRepository, Mockito.times(1)).saveAll(ArgumentMatchers.anyList());
+		Mockito.verify(validDocumentRepository)
+				.saveAll(ArgumentMatchers.argThat((Iterable<ValidDocument> chunk) -> ((List<ValidDocument>) chunk).size() == 2));
+	}
+
+	@Test
+	public void testLaterGroupsNotDecryptedAhead() {
+		String genderRows = "[\"{\\\"code\\\":\\\"MLE\\\",\\\"genderName\\\":\\\"Male\\\",\\\"langCode\\\":\\\"eng\\\",\\\"isActive\\\":true}\"]";
+		String languageRows = "[\"{\\\"code\\\":\\\"eng\\\",\\\"name\\\":\\\"English\\\",\\\"isActive\\\":true}\"]";
+		List<String> events = new CopyOnWriteArrayList<>();
+		Mockito.when(clientCryptoFacade.decrypt(Mockito.any())).thenAnswer(invocation -> {
+			String entityName = new String((byte[]) invocation.getArgument(0));
+			events.add("decrypt:" + entityName);
+			return ("Gender".equals(entityName) ? genderRows : languageRows).getBytes();
+		});
+		Mockito.when(masterSyncGenderTypeRepository.saveAll(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+			events.add("save:Gender");
+			return invocation.getArgument(0);
+		});
+		// groups are saved one after the other, in the order they are listed
+		ReflectionTestUtils.setField(clientSettingSyncHelper, "writerThreads", 1);
+
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setDataToSync(Arrays.asList(
+				new SyncDataBaseDto("Gender", "structured", CryptoUtil.encodeBase64("Gender".getBytes())),
+				new SyncDataBaseDto("Language", "structured", CryptoUtil.encodeBase64("Language".getBytes()))));
+		try {
+			clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			// schema sync is not possible without network
+		}
+
+		// Language is two groups after IdSchema, it is decrypted only once Gender is saved
+		Assert.assertTrue(events.contains("decrypt:Language"));
+		Assert.assertTrue(events.indexOf("save:Gender") >= 0
+				&& events.indexOf("save:Gender") < events.indexOf("decrypt:Language"));
+	}
+
+	@Test
+	public void testFailedEntityGroupRolledBack() {
+		Mockito.when(clientCryptoFacade.decrypt(Mockito.any())).thenReturn("[\"invalid\"]".getBytes());
+
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setDataToSync(Arrays.asList(new SyncDataBaseDto("Gender", "structured",
+				CryptoUtil.encodeBase64("gender".getBytes()))));
+
+		try {
+			clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			// Gender is not a valid json row
+		}
+
+		Mockito.verify(masterSyncGenderTypeRepository, Mockito.never()).saveAll(ArgumentMatchers.anyList());
+		Mockito.verify(transactionManager).rollback(Mockito.any());
+	}
+
 	private SyncDataResponseDto getSyncDataResponseDto(String fileName) {
 
 		ObjectMapper mapper = new ObjectMapper();
@@ -9,6 +9,7 @@ import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -31,6 +32,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
@@ -41,6 +43,8 @@ import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.context.SessionContext.UserContext;
 import io.mosip.registration.dao.RegPacketStatusDAO;
 import io.mosip.registration.dao.RegistrationDAO;
+import io.mosip.registration.dto.PacketStatusReaderDTO;
+import io.mosip.registration.dto.RegistrationIdDTO;
 import io.mosip.registration.dto.RegistrationPacketSyncDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
@@ -89,6 +93,7 @@ public class RegPacketStatusServiceTest {
 		PowerMockito.mockStatic(SessionContext.class);
 		PowerMockito.doReturn(userContext).when(SessionContext.class, "userContext");
 		PowerMockito.when(SessionContext.userContext().getUserId()).thenReturn("mosip");
+		ReflectionTestUtils.setField(packetStatusService, "packetStatusChunkSize", 10);
 
 	}
 
@@ -122,12 +127,12 @@ public class RegPacketStatusServiceTest {
 		regis.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
 		list.add(regis);
 
-		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(packetStatusDao.getUploadedPackets(Mockito.isNull(), Mockito.anyInt())).thenReturn(list);
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString())).thenReturn(response);
 		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
 
-		when(packetStatusDao.update(Mockito.any())).thenThrow(RuntimeException.class);
+		Mockito.doThrow(RuntimeException.class).when(packetStatusDao).updateAll(Mockito.anyList());
 		packetStatusService.packetSyncStatus("System");
 
 	}
@@ -151,12 +156,12 @@ public class RegPacketStatusServiceTest {
 		registrations.add(registration12);
 
 		List<Registration> list = new LinkedList<>();
-		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(packetStatusDao.getUploadedPackets(Mockito.isNull(), Mockito.anyInt())).thenReturn(list);
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyMap(), Mockito.anyString())).thenReturn(response);
 		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
 
-		when(packetStatusDao.update(Mockito.any())).thenThrow(RuntimeException.class);
+		Mockito.doThrow(RuntimeException.class).when(packetStatusDao).updateAll(Mockito.anyList());
 		packetStatusService.packetSyncStatus("System");
 	}
 
@@ -170,7 +175,7 @@ public class RegPacketStatusServiceTest {
 		regis.setAckFilename("..//PacketStore/02-Jan-2019/2018782130000102012019115112_Ack.png");
 		regis.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
 		list.add(regis);
-		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(packetStatusDao.getUploadedPackets(Mockito.isNull(), Mockito.anyInt())).thenReturn(list);
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyMap(), Mockito.anyString()))
 				.thenThrow(SocketTimeoutException.class);
@@ -189,7 +194,7 @@ public class RegPacketStatusServiceTest {
 		regis.setAckFilename("..//PacketStore/02-Jan-2019/2018782130000102012019115112_Ack.png");
 		regis.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
 		list.add(regis);
-		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(packetStatusDao.getUploadedPackets(Mockito.isNull(), Mockito.anyInt())).thenReturn(list);
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyMap(), Mockito.anyString()))
 				.thenThrow(RuntimeException.class);
@@ -208,7 +213,7 @@ public class RegPacketStatusServiceTest {
 		regis.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
 		list.add(regis);
 
-		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(packetStatusDao.getUploadedPackets(Mockito.isNull(), Mockito.anyInt())).thenReturn(list);
 
 		List<LinkedHashMap<String, String>> registrations = new ArrayList<>();
 
@@ -223,6 +228,47 @@ public class RegPacketStatusServiceTest {
 		packetStatusService.packetSyncStatus("System");
 	}
 
+	@Test
+	public void packetSyncStatusInChunksTest() throws Exception {
+		ReflectionTestUtils.setField(packetStatusService, "packetStatusChunkSize", 2);
+		List<Registration> firstChunk = Arrays.asList(getUploadedPacket("10003"), getUploadedPacket("10002"));
+		List<Registration> lastChunk = Arrays.asList(getUploadedPacket("10001"));
+		when(packetStatusDao.getUploadedPackets(null, 2)).thenReturn(firstChunk);
+		when(packetStatusDao.getUploadedPackets(firstChunk.get(1), 2)).thenReturn(lastChunk);
+
+		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString())).thenAnswer(invocation -> {
+			PacketStatusReaderDTO packetStatusReaderDTO = invocation.getArgument(1);
+			List<LinkedHashMap<String, String>> registrations = new ArrayList<>();
+			for (RegistrationIdDTO registrationIdDTO : packetStatusReaderDTO.getRequest()) {
+				LinkedHashMap<String, String> registration = new LinkedHashMap<>();
+				registration.put("registrationId", registrationIdDTO.getRegistrationId());
+				registration.put("statusCode", RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
+				registrations.add(registration);
+			}
+			LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+			response.put(RegistrationConstants.RESPONSE, registrations);
+			return response;
+		});
+
+		ResponseDTO responseDTO = packetStatusService.packetSyncStatus("System");
+
+		assertEquals(3, responseDTO.getSuccessResponseDTO().getOtherAttributes()
+				.get(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY));
+		Mockito.verify(serviceDelegateUtil, Mockito.times(2)).post(Mockito.anyString(), Mockito.any(),
+				Mockito.anyString());
+		Mockito.verify(packetStatusDao).updateAll(firstChunk);
+		Mockito.verify(packetStatusDao).updateAll(lastChunk);
+		Mockito.verify(packetStatusDao, Mockito.never()).update(Mockito.any());
+		assertEquals(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED, lastChunk.get(0).getServerStatusCode());
+	}
+
+	private Registration getUploadedPacket(String registrationId) {
+		Registration registration = new Registration();
+		registration.setId(registrationId);
+		registration.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
+		return registration;
+	}
+
 	@Test
 	public void deleteReRegistrationPacketsTest() {
 		List<Registration> list = prepareSamplePackets();
@@ -27,6 +27,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.powermock.api.mockito.PowerMockito;
@@ -80,6 +81,10 @@ import io.mosip.registration.service.operator.UserOnboardService;
 import io.mosip.registration.service.remap.CenterMachineReMapService;
 import io.mosip.registration.service.sync.impl.MasterSyncServiceImpl;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.mastersync.LocationHierarchyIndex;
+import io.mosip.registration.util.mastersync.MasterDataCache;
+import io.mosip.registration.validator.RegIdObjectMasterDataValidator;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
 
 /**
@@ -138,6 +143,18 @@ public class MasterSyncServiceTest {
 	@Mock
 	private IdentitySchemaDao identitySchemaDao; 
 
+	@Spy
+	private MasterDataCache masterDataCache = new MasterDataCache();
+
+	@Mock
+	private LocationHierarchyIndex locationHierarchyIndex;
+
+	@Mock
+	private ClientSettingSyncHelper clientSettingSyncHelper;
+
+	@Mock
+	private RegIdObjectMasterDataValidator regIdObjectMasterDataValidator;
+
 	@Before
 	public void beforeClass() throws Exception {
 		doNothing().when(auditFactory).audit(Mockito.any(AuditEvent.class), Mockito.any(Components.class),
@@ -756,7 +773,7 @@ public class MasterSyncServiceTest {
 		locattion.setParentLocCode("english");
 		locations.add(locattion);
 
-		Mockito.when(masterSyncDao.findLocationByLangCode(Mockito.anyInt(), Mockito.anyString()))
+		Mockito.when(locationHierarchyIndex.getLocations(Mockito.anyInt(), Mockito.anyString()))
 				.thenReturn(locations);
 
 		masterSyncServiceImpl.findLocationByHierarchyCode(1, "ENG");
@@ -776,7 +793,7 @@ public class MasterSyncServiceTest {
 		locattion.setParentLocCode("english");
 		locations.add(locattion);
 
-		Mockito.when(masterSyncDao.findLocationByParentLocCode(Mockito.anyString(), Mockito.anyString()))
+		Mockito.when(locationHierarchyIndex.getChildren(Mockito.anyString(), Mockito.anyString()))
 				.thenReturn(locations);
 
 		masterSyncServiceImpl.findProvianceByHierarchyCode("LOC01", "eng");
@@ -862,6 +879,28 @@ public class MasterSyncServiceTest {
 
 	}
 
+	@Test
+	public void findGenderFromCache() throws RegBaseCheckedException {
+
+		List<Gender> genderList = new ArrayList<>();
+		Gender gender = new Gender();
+		gender.setCode("1");
+		gender.setGenderName("male");
+		gender.setLangCode("ENG");
+		gender.setIsActive(true);
+		genderList.add(gender);
+
+		Mockito.when(masterSyncDao.getGenderDtls(Mockito.anyString())).thenReturn(genderList);
+
+		masterSyncServiceImpl.getGenderDtls("ENG");
+		assertEquals("1", masterSyncServiceImpl.getGenderDtls("ENG").get(0).getCode());
+		Mockito.verify(masterSyncDao, Mockito.times(1)).getGenderDtls("ENG");
+
+		masterDataCache.invalidate();
+		masterSyncServiceImpl.getGenderDtls("ENG");
+		Mockito.verify(masterSyncDao, Mockito.times(2)).getGenderDtls("ENG");
+	}
+
 	/*@Test
 	public void findIndividualType() throws RegBaseCheckedException {
 
@@ -32,6 +32,7 @@ import io.mosip.registration.service.operator.UserOnboardService;
 import io.mosip.registration.service.operator.impl.UserDetailServiceImpl;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
@@ -53,6 +54,9 @@ public class UserDetailServcieTest {
 	@Mock
 	private UserDetailDAO userDetailDAO;
 
+	@Mock
+	private OperatorBiometricGallery operatorBiometricGallery;
+
 	@Test
 	public void userDtls() throws HttpClientErrorException, SocketTimeoutException, RegBaseCheckedException {
 		PowerMockito.mockStatic(RegistrationAppHealthCheckUtil.class);
@@ -49,6 +49,7 @@ import io.mosip.registration.service.operator.impl.UserOnboardServiceImpl;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.healthcheck.RegistrationSystemPropertiesChecker;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
 
 
 /**
@@ -76,6 +77,9 @@ public class UserOnBoardServiceImplTest {
 	
 	@Mock
 	private UserOnboardDAO userOnBoardDao;
+
+	@Mock
+	private OperatorBiometricGallery operatorBiometricGallery;
 	
 	@Mock
 	private KeyGenerator keyGenerator;
@@ -33,6 +33,7 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.ResourceAccessException;
 
 import io.mosip.kernel.core.exception.IOException;
@@ -165,6 +166,35 @@ public class PreRegistrationDataSyncServiceTest {
 
 	}
 
+	@Test
+	public void getPreRegistrationsSavedInBatchTest()
+			throws HttpClientErrorException, ResourceAccessException, SocketTimeoutException, RegBaseCheckedException {
+
+		LinkedHashMap<String, Object> postResponse = new LinkedHashMap<>();
+		LinkedHashMap<String, Object> responseData = new LinkedHashMap<>();
+		HashMap<String, String> map = new HashMap<>();
+		map.put("70694681371453", "2019-01-17T05:42:35.747Z");
+		map.put("70694681371454", "2019-01-17T05:42:35.747");
+		responseData.put("preRegistrationIds", map);
+		postResponse.put("response", responseData);
+		mockPreRegServices(postResponse);
+		ReflectionTestUtils.setField(preRegistrationDataSyncServiceImpl, "batchSize", 50);
+
+		PreRegistrationDTO preRegistrationDTO = new PreRegistrationDTO();
+		preRegistrationDTO.setPacketPath("path");
+		preRegistrationDTO.setSymmetricKey("0E8BAAEB3CED73CBC9BF4964F321824A");
+		preRegistrationDTO.setPreRegId("70694681371453");
+		Mockito.when(preRegZipHandlingService.encryptAndSavePreRegPacket(Mockito.anyString(), Mockito.any()))
+				.thenReturn(preRegistrationDTO);
+
+		ResponseDTO responseDTO = preRegistrationDataSyncServiceImpl.getPreRegistrationIds("System");
+
+		assertNotNull(responseDTO.getSuccessResponseDTO());
+		Mockito.verify(preRegistrationDAO).saveAll(Mockito.argThat(list -> list.size() == 2));
+		Mockito.verify(syncManager, Mockito.times(1)).createSyncTransaction(Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString(), Mockito.anyString());
+	}
+
 	protected void mockPreRegServices(LinkedHashMap<String, Object> postResponse)
 			throws RegBaseCheckedException, SocketTimeoutException {
 		Mockito.when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
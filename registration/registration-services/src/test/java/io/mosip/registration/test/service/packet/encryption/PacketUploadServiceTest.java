@@ -25,11 +25,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
+import io.mosip.registration.audit.AuditManagerService;
+import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.entity.Registration;
@@ -60,6 +63,9 @@ public class PacketUploadServiceTest {
 	@Mock
 	private RegistrationRepository registrationRepository;
 
+	@Mock
+	private AuditManagerService auditFactory;
+
 	@InjectMocks
 	private PacketUploadServiceImpl packetUploadServiceImpl;
 
@@ -218,6 +224,34 @@ public class PacketUploadServiceTest {
 		assertEquals("E", registration.getFileUploadStatus());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testUploadPacketRetriedOnConnectionFailure() throws URISyntaxException, RegBaseCheckedException {
+		Registration registration = new Registration();
+		registration.setId("123456789");
+		registration.setAckFilename("..//registration-services/src/test/resources/123456789_Ack.png");
+		registration.setUploadCount((short) 0);
+		registration.setClientStatusCode("SYNCED");
+
+		LinkedHashMap<String, Object> respObj = new LinkedHashMap<>();
+		respObj.put("response", "Success");
+		Mockito.when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyMap(), Mockito.anyString()))
+				.thenThrow(new ResourceAccessException("Connection reset")).thenReturn(respObj);
+		Mockito.when(registrationDAO.getRegistrationById(Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(registration);
+		Mockito.when(registrationDAO.updateRegStatus(Mockito.any())).thenReturn(registration);
+		ReflectionTestUtils.setField(packetUploadServiceImpl, "uploadRetryCount", 1);
+		ReflectionTestUtils.setField(packetUploadServiceImpl, "uploadRetryDelay", 0L);
+
+		packetUploadServiceImpl.uploadPacket("123456789");
+
+		Mockito.verify(serviceDelegateUtil, Mockito.times(2)).post(Mockito.anyString(), Mockito.anyMap(),
+				Mockito.anyString());
+		Mockito.verify(registrationDAO).updateRegStatus(Mockito.argThat(
+				packetStatus -> RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode()
+						.equals(packetStatus.getUploadStatus())));
+	}
+
 	@Test
 	public void testPacketNotExists() throws RegBaseCheckedException, URISyntaxException {
 		Registration registration = new Registration();
@@ -0,0 +1,90 @@
+package io.mosip.registration.test.update;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.mosip.registration.update.JarCheckSumVerifier;
+
+public class JarCheckSumVerifierTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void checkSumValidTest() throws IOException, NoSuchAlgorithmException {
+		File jar = createJar("content");
+		JarCheckSumVerifier checkSumVerifier = new JarCheckSumVerifier(true, temporaryFolder.getRoot());
+
+		Assert.assertTrue(checkSumVerifier.isCheckSumValid(jar, getCheckSum("content")));
+		Assert.assertTrue(checkSumVerifier.isCheckSumValid(jar, getCheckSum("content").toLowerCase()));
+		Assert.assertFalse(checkSumVerifier.isCheckSumValid(jar, getCheckSum("changed")));
+		Assert.assertFalse(checkSumVerifier.isCheckSumValid(jar, null));
+	}
+
+	@Test
+	public void verifiedJarNotHashedAgainTest() throws IOException, NoSuchAlgorithmException {
+		File jar = createJar("content");
+		FileTime lastModifiedTime = Files.getLastModifiedTime(jar.toPath());
+
+		JarCheckSumVerifier checkSumVerifier = new JarCheckSumVerifier(false, temporaryFolder.getRoot());
+		Assert.assertTrue(checkSumVerifier.isCheckSumValid(jar, getCheckSum("content")));
+		checkSumVerifier.save();
+
+		// same size and timestamp, different content
+		Files.write(jar.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(jar.toPath(), lastModifiedTime);
+
+		Assert.assertTrue(
+				new JarCheckSumVerifier(false, temporaryFolder.getRoot()).isCheckSumValid(jar, getCheckSum("content")));
+		Assert.assertFalse(
+				new JarCheckSumVerifier(true, temporaryFolder.getRoot()).isCheckSumValid(jar, getCheckSum("content")));
+	}
+
+	@Test
+	public void checkSumsWritableByOthersIgnoredTest() throws IOException, NoSuchAlgorithmException {
+		Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+		File jar = createJar("content");
+		FileTime lastModifiedTime = Files.getLastModifiedTime(jar.toPath());
+
+		JarCheckSumVerifier checkSumVerifier = new JarCheckSumVerifier(false, temporaryFolder.getRoot());
+		Assert.assertTrue(checkSumVerifier.isCheckSumValid(jar, getCheckSum("content")));
+		checkSumVerifier.save();
+
+		File checkSumFile = new File(temporaryFolder.getRoot(), "checksums/jar-checksums");
+		Assert.assertEquals("rw-------",
+				PosixFilePermissions.toString(Files.getPosixFilePermissions(checkSumFile.toPath())));
+		Files.setPosixFilePermissions(checkSumFile.toPath(), PosixFilePermissions.fromString("rw-rw-rw-"));
+
+		// same size and timestamp, different content
+		Files.write(jar.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(jar.toPath(), lastModifiedTime);
+
+		Assert.assertFalse(
+				new JarCheckSumVerifier(false, temporaryFolder.getRoot()).isCheckSumValid(jar, getCheckSum("content")));
+	}
+
+	private File createJar(String content) throws IOException {
+		File jar = temporaryFolder.newFile("test.jar");
+		Files.write(jar.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return jar;
+	}
+
+	private String getCheckSum(String content) throws NoSuchAlgorithmException {
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+		return String.format("%064X", new BigInteger(1, digest));
+	}
+}
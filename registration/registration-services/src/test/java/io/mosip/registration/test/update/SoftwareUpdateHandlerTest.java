@@ -2,13 +2,21 @@ package io.mosip.registration.test.update;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.jar.Manifest;
 
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -19,18 +27,22 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.update.SoftwareUpdateHandler;
 
 @RunWith(PowerMockRunner.class)
-@PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
+@PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*", "javax.net.ssl.*"})
 @PrepareForTest({Manifest.class})
 public class SoftwareUpdateHandlerTest {
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@InjectMocks
 	private SoftwareUpdateHandler softwareUpdateHandler;
 
@@ -103,6 +115,23 @@ public class SoftwareUpdateHandlerTest {
 		Assert.assertFalse(softwareUpdateHandler.hasUpdate());
 	}
 
+	@Test
+	public void updateDownloadTrustsServerTest() throws Exception {
+		SSLSocketFactory defaultSocketFactory = SSLContext.getDefault().getSocketFactory();
+		HttpsURLConnection.setDefaultSSLSocketFactory(defaultSocketFactory);
+		Map<String, Object> globalParams = new HashMap<>();
+		globalParams.put(RegistrationConstants.HTTP_API_WRITE_TIMEOUT, "1000");
+		globalParams.put(RegistrationConstants.HTTP_API_READ_TIMEOUT, "1000");
+		Mockito.when(globalParamService.getGlobalParams()).thenReturn(globalParams);
+
+		File manifestFile = temporaryFolder.newFile("MANIFEST.MF");
+		try (InputStream inputStream = ReflectionTestUtils.invokeMethod(softwareUpdateHandler, "getInputStreamOf",
+				manifestFile.toURI().toURL().toString())) {
+			Assert.assertNotNull(inputStream);
+		}
+		Assert.assertNotSame(defaultSocketFactory, HttpsURLConnection.getDefaultSSLSocketFactory());
+	}
+
 	
 /*	@Test
 	public void hasUpdateGetCurrentVersionTest() {
@@ -1,9 +1,13 @@
 package io.mosip.registration.test.util;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -29,4 +33,22 @@ public class RegistrationHealthCheckerTest {
 		boolean actualStatus = RegistrationAppHealthCheckUtil.isNetworkAvailable();
 		assertTrue(!actualStatus);
 	}
+
+	@Test
+	public void networkStatusListenerTest() {
+		List<Boolean> statuses = new ArrayList<>();
+		Consumer<Boolean> listener = statuses::add;
+		RegistrationAppHealthCheckUtil.addNetworkStatusListener(listener);
+		try {
+			// health check host is not resolved in the tests
+			assertFalse(RegistrationAppHealthCheckUtil.refreshNetworkStatus());
+			assertFalse(RegistrationAppHealthCheckUtil.isNetworkAvailable());
+			assertFalse(RegistrationAppHealthCheckUtil.refreshNetworkStatus());
+			// notified only when the status changes
+			assertTrue(statuses.size() <= 1);
+			assertFalse(statuses.contains(Boolean.TRUE));
+		} finally {
+			RegistrationAppHealthCheckUtil.removeNetworkStatusListener(listener);
+		}
+	}
 }
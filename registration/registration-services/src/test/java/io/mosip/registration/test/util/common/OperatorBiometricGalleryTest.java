@@ -0,0 +1,119 @@
+package io.mosip.registration.test.util.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+import io.mosip.kernel.core.cbeffutil.entity.BIR;
+import io.mosip.registration.dao.UserDetailDAO;
+import io.mosip.registration.entity.UserBiometric;
+import io.mosip.registration.entity.id.UserBiometricId;
+import io.mosip.registration.service.bio.BioService;
+import io.mosip.registration.util.common.OperatorBiometricGallery;
+
+public class OperatorBiometricGalleryTest {
+
+	@Rule
+	public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+	@Mock
+	private UserDetailDAO userDetailDAO;
+
+	@Mock
+	private BioService bioService;
+
+	@Mock
+	private iBioProviderApi bioProvider;
+
+	@InjectMocks
+	private OperatorBiometricGallery operatorBiometricGallery;
+
+	@Before
+	public void initialize() {
+		ReflectionTestUtils.setField(operatorBiometricGallery, "matchThreads", 2);
+
+		List<UserBiometric> userBiometrics = new ArrayList<>();
+		userBiometrics.add(getUserBiometric("leftIndex"));
+		userBiometrics.add(getUserBiometric("rightIndex"));
+		userBiometrics.add(getUserBiometric("leftThumb"));
+		Mockito.when(userDetailDAO.getUserSpecificBioDetails("mosip", "Finger")).thenReturn(userBiometrics);
+		Mockito.when(bioService.buildBir(Mockito.anyString(), Mockito.anyLong(), Mockito.any()))
+				.thenAnswer(invocation -> Mockito.mock(BIR.class));
+	}
+
+	@Test
+	public void templatesBuiltOnceUntilInvalidatedTest() {
+		List<BIR> templates = operatorBiometricGallery.getTemplates("mosip", "Finger");
+		Assert.assertEquals(3, templates.size());
+		Assert.assertSame(templates, operatorBiometricGallery.getTemplates("mosip", "Finger"));
+		Mockito.verify(userDetailDAO, Mockito.times(1)).getUserSpecificBioDetails("mosip", "Finger");
+		Mockito.verify(bioService, Mockito.times(3)).buildBir(Mockito.anyString(), Mockito.anyLong(),
+				Mockito.any());
+
+		operatorBiometricGallery.invalidate();
+		Assert.assertNotSame(templates, operatorBiometricGallery.getTemplates("mosip", "Finger"));
+		Mockito.verify(userDetailDAO, Mockito.times(2)).getUserSpecificBioDetails("mosip", "Finger");
+	}
+
+	@Test
+	public void singleSampleMatchedAgainstPartitionsTest() {
+		List<BIR> templates = operatorBiometricGallery.getTemplates("mosip", "Finger");
+		List<BIR> sample = Arrays.asList(Mockito.mock(BIR.class));
+		Mockito.when(bioProvider.verify(Mockito.eq(sample), Mockito.anyList(), Mockito.eq(BiometricType.FINGER),
+				Mockito.any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).contains(templates.get(2)));
+
+		Assert.assertTrue(operatorBiometricGallery.verify(bioProvider, sample, templates, BiometricType.FINGER));
+		Mockito.verify(bioProvider).verify(sample, templates.subList(2, 3), BiometricType.FINGER, null);
+
+		Assert.assertFalse(operatorBiometricGallery.verify(bioProvider, sample, templates.subList(0, 2),
+				BiometricType.FINGER));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sdkFailureThrownWhenNoPartitionMatchedTest() {
+		List<BIR> templates = operatorBiometricGallery.getTemplates("mosip", "Finger");
+		List<BIR> sample = Arrays.asList(Mockito.mock(BIR.class));
+		Mockito.when(bioProvider.verify(Mockito.eq(sample), Mockito.eq(templates.subList(0, 2)),
+				Mockito.eq(BiometricType.FINGER), Mockito.any())).thenThrow(new IllegalArgumentException("SDK error"));
+		Mockito.when(bioProvider.verify(Mockito.eq(sample), Mockito.eq(templates.subList(2, 3)),
+				Mockito.eq(BiometricType.FINGER), Mockito.any())).thenReturn(false);
+
+		operatorBiometricGallery.verify(bioProvider, sample, templates, BiometricType.FINGER);
+	}
+
+	@Test
+	public void multipleSamplesMatchedTogetherTest() {
+		List<BIR> templates = operatorBiometricGallery.getTemplates("mosip", "Finger");
+		List<BIR> sample = Arrays.asList(Mockito.mock(BIR.class), Mockito.mock(BIR.class));
+		Mockito.when(bioProvider.verify(sample, templates, BiometricType.FINGER, null)).thenReturn(true);
+
+		Assert.assertTrue(operatorBiometricGallery.verify(bioProvider, sample, templates, BiometricType.FINGER));
+		Mockito.verify(bioProvider, Mockito.times(1)).verify(Mockito.anyList(), Mockito.anyList(), Mockito.any(),
+				Mockito.any());
+	}
+
+	private UserBiometric getUserBiometric(String bioAttributeCode) {
+		UserBiometricId userBiometricId = new UserBiometricId();
+		userBiometricId.setUsrId("mosip");
+		userBiometricId.setBioTypeCode("FIN");
+		userBiometricId.setBioAttributeCode(bioAttributeCode);
+		UserBiometric userBiometric = new UserBiometric();
+		userBiometric.setUserBiometricId(userBiometricId);
+		userBiometric.setQualityScore(80);
+		userBiometric.setBioIsoImage(new byte[] { 1, 2, 3 });
+		return userBiometric;
+	}
+}
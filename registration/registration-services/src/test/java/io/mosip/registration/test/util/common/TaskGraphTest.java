@@ -0,0 +1,103 @@
+package io.mosip.registration.test.util.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.util.common.BoundedExecutors;
+import io.mosip.registration.util.common.TaskGraph;
+
+public class TaskGraphTest {
+
+	private ExecutorService executor;
+
+	@Before
+	public void initialize() {
+		executor = BoundedExecutors.newDaemonExecutor("task-graph-test", 2);
+	}
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void independentTasksRunConcurrentlyTest() throws Exception {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		List<String> completed = new CopyOnWriteArrayList<>();
+		TaskGraph.Task awaitOther = () -> {
+			bothStarted.countDown();
+			Assert.assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+		};
+
+		new TaskGraph("TEST").addTask("keys", () -> {
+		}).addTask("users", awaitOther, "keys").addTask("master", awaitOther, "keys")
+				.withCheckpoints(Collections.emptySet(), completed::add).execute(executor);
+
+		Assert.assertEquals("keys", completed.get(0));
+		Assert.assertTrue(completed.containsAll(Arrays.asList("users", "master")));
+	}
+
+	@Test
+	public void failedTaskRetriedTest() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		new TaskGraph("TEST").addTask("master", () -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new RegBaseCheckedException("REG-TEST", "connection dropped");
+			}
+		}).withRetries(2, 1, exception -> true).execute(executor);
+
+		Assert.assertEquals(3, attempts.get());
+	}
+
+	@Test
+	public void dependentsOfFailedTaskNotRunTest() {
+		AtomicInteger dependentRuns = new AtomicInteger();
+		AtomicInteger independentRuns = new AtomicInteger();
+		try {
+			new TaskGraph("TEST").addTask("keys", () -> {
+				throw new RegBaseCheckedException("REG-TEST", "key mismatch");
+			}).addTask("config", () -> {
+				independentRuns.incrementAndGet();
+			}).addTask("master", dependentRuns::incrementAndGet, "keys", "config")
+					.withRetries(2, 1, exception -> false).execute(executor);
+			Assert.fail();
+		} catch (Exception exception) {
+			Assert.assertEquals("REG-TEST", ((RegBaseCheckedException) exception).getErrorCode());
+		}
+		Assert.assertEquals(0, dependentRuns.get());
+		Assert.assertEquals(1, independentRuns.get());
+	}
+
+	@Test
+	public void completedTasksSkippedTest() throws Exception {
+		AtomicInteger masterRuns = new AtomicInteger();
+		List<String> completed = new CopyOnWriteArrayList<>();
+		Set<String> checkpoints = Collections.singleton("master");
+
+		new TaskGraph("TEST").addTask("keys", () -> {
+		}).addTask("master", masterRuns::incrementAndGet, "keys").withCheckpoints(checkpoints, completed::add)
+				.execute(executor);
+
+		Assert.assertEquals(0, masterRuns.get());
+		Assert.assertEquals(Collections.singletonList("keys"), completed);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownDependencyTest() {
+		new TaskGraph("TEST").addTask("master", () -> {
+		}, "keys");
+	}
+}
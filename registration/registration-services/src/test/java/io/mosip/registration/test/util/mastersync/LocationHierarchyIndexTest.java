@@ -0,0 +1,96 @@
+package io.mosip.registration.test.util.mastersync;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import io.mosip.registration.dao.MasterSyncDao;
+import io.mosip.registration.entity.Location;
+import io.mosip.registration.util.mastersync.LocationHierarchyIndex;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LocationHierarchyIndexTest {
+
+	@Mock
+	private MasterSyncDao masterSyncDao;
+
+	@InjectMocks
+	private LocationHierarchyIndex locationHierarchyIndex;
+
+	@Before
+	public void initialize() {
+		List<Location> locations = new ArrayList<>();
+		locations.add(getLocation("MOR", "Morocco", 0, null, "eng"));
+		locations.add(getLocation("RSK", "Rabat Sale Kenitra", 1, "MOR", "eng"));
+		locations.add(getLocation("KTA", "Kenitra", 2, "RSK", "eng"));
+		locations.add(getLocation("RBT", "Rabat", 2, "RSK", "eng"));
+		locations.add(getLocation("RBR", "Rabat Rural", 2, "RSK", "eng"));
+		locations.add(getLocation("RBT", "Rabat", 2, "RSK", "fra"));
+
+		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(locations);
+	}
+
+	@Test
+	public void getChildrenTest() {
+		Assert.assertEquals(Arrays.asList("KTA", "RBT", "RBR"),
+				getCodes(locationHierarchyIndex.getChildren("RSK", "eng")));
+		// children of a location which is not active
+		Assert.assertEquals(Arrays.asList("RBT"), getCodes(locationHierarchyIndex.getChildren("RSK", "fra")));
+		Assert.assertTrue(locationHierarchyIndex.getChildren("KTA", "eng").isEmpty());
+		Assert.assertEquals(Arrays.asList("KTA", "RBT", "RBR"),
+				getCodes(locationHierarchyIndex.getLocations(2, "eng")));
+	}
+
+	@Test
+	public void getPathToRootTest() {
+		Assert.assertEquals(Arrays.asList("RBT", "RSK", "MOR"),
+				getCodes(locationHierarchyIndex.getPathToRoot("RBT", "eng")));
+		Assert.assertEquals(Arrays.asList("RBT"), getCodes(locationHierarchyIndex.getPathToRoot("RBT", "fra")));
+		Assert.assertTrue(locationHierarchyIndex.getPathToRoot("XXX", "eng").isEmpty());
+	}
+
+	@Test
+	public void findByNamePrefixTest() {
+		Assert.assertEquals(Arrays.asList("RBT", "RBR"),
+				getCodes(locationHierarchyIndex.findByNamePrefix(2, "eng", "rab", 10)));
+		Assert.assertEquals(Arrays.asList("RBT"),
+				getCodes(locationHierarchyIndex.findByNamePrefix(2, "eng", "RAB", 1)));
+		Assert.assertTrue(locationHierarchyIndex.findByNamePrefix(2, "eng", "sale", 10).isEmpty());
+	}
+
+	@Test
+	public void builtOnceUntilInvalidatedTest() {
+		locationHierarchyIndex.getChildren("RSK", "eng");
+		locationHierarchyIndex.getLocations(1, "eng");
+		Mockito.verify(masterSyncDao, Mockito.times(1)).getLocationDetails();
+
+		locationHierarchyIndex.invalidate();
+		locationHierarchyIndex.getLocations(1, "eng");
+		Mockito.verify(masterSyncDao, Mockito.times(2)).getLocationDetails();
+	}
+
+	private Location getLocation(String code, String name, int hierarchyLevel, String parentLocCode,
+			String langCode) {
+		Location location = new Location();
+		location.setCode(code);
+		location.setName(name);
+		location.setHierarchyLevel(hierarchyLevel);
+		location.setParentLocCode(parentLocCode);
+		location.setLangCode(langCode);
+		return location;
+	}
+
+	private List<String> getCodes(List<Location> locations) {
+		return locations.stream().map(Location::getCode).collect(Collectors.toList());
+	}
+}
@@ -1,6 +1,7 @@
 package io.mosip.registration.test.util.mastersync;
 
 import static io.mosip.registration.util.mastersync.MapperUtils.map;
+import static io.mosip.registration.util.mastersync.MapperUtils.mapJSONObjectToEntity;
 import static io.mosip.registration.util.mastersync.MetaDataUtils.setCreateMetaData;
 import static io.mosip.registration.util.mastersync.MetaDataUtils.setUpdateMetaData;
 import static org.junit.Assert.assertTrue;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,6 +26,7 @@ import io.mosip.registration.context.SessionContext.UserContext;
 import io.mosip.registration.dto.mastersync.LanguageDto;
 import io.mosip.registration.dto.mastersync.TitleDto;
 import io.mosip.registration.entity.Language;
+import io.mosip.registration.entity.Location;
 import io.mosip.registration.entity.RegistrationCenter;
 import io.mosip.registration.entity.Title;
 import io.mosip.registration.util.mastersync.EmptyCheckUtils;
@@ -113,5 +116,26 @@ public class MapperTest {
 		List<RegistrationCenter> rcds = setCreateMetaData(rcdDtos, Title.class);
 		assertTrue(!EmptyCheckUtils.isNullEmpty(rcds));
 	}
-	
+
+	@Test
+	public void testMapJSONObjectToEntity() throws Exception {
+		JSONObject jsonObject = new JSONObject();
+		jsonObject.put("code", "KTA");
+		jsonObject.put("langCode", "eng");
+		jsonObject.put("name", "Kenitra");
+		jsonObject.put("hierarchyLevel", 2);
+		jsonObject.put("parentLocCode", JSONObject.NULL);
+		jsonObject.put("isActive", true);
+
+		for (int i = 0; i < 2; i++) {
+			Location location = mapJSONObjectToEntity(jsonObject, Location.class);
+
+			assertTrue(location.getCode().equals("KTA"));
+			assertTrue(location.getName().equals("Kenitra"));
+			assertTrue(location.getHierarchyLevel() == 2);
+			assertTrue(location.getParentLocCode() == null);
+			assertTrue(location.getIsActive());
+		}
+	}
+
 }
@@ -0,0 +1,155 @@
+package io.mosip.registration.test.util.mastersync;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.entity.Gender;
+import io.mosip.registration.entity.ValidDocument;
+import io.mosip.registration.entity.id.ValidDocumentID;
+import io.mosip.registration.util.mastersync.MasterDataChangeDetector;
+import io.mosip.registration.util.mastersync.MasterDataChangeDetector.EntityChanges;
+
+public class MasterDataChangeDetectorTest {
+
+	private static final String MALE = "{\"code\":\"MLE\",\"genderName\":\"Male\",\"isActive\":true}";
+
+	private static final String FEMALE = "{\"code\":\"FLE\",\"genderName\":\"Female\",\"isActive\":true}";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private String rowHashFile;
+
+	@Before
+	public void initialize() throws IOException {
+		rowHashFile = temporaryFolder.newFolder().getAbsolutePath() + "/row_hashes";
+	}
+
+	@Test
+	public void unchangedRowsSkippedTest() {
+		MasterDataChangeDetector changeDetector = getChangeDetector();
+		EntityChanges entityChanges = changeDetector.track("Gender", 0);
+		Assert.assertTrue(entityChanges.isChanged(MALE, getGender("MLE"), true));
+		Assert.assertTrue(entityChanges.isChanged(FEMALE, getGender("FLE"), true));
+		changeDetector.commit(entityChanges, 2);
+		changeDetector.save();
+
+		// remembered hashes are read from the file
+		changeDetector = getChangeDetector();
+		entityChanges = changeDetector.track("Gender", 2);
+		Assert.assertFalse(entityChanges.isChanged(MALE, getGender("MLE"), true));
+		Assert.assertTrue(entityChanges.isChanged(FEMALE.replace("true", "false"), getGender("FLE"), false));
+		Assert.assertTrue(entityChanges.isChanged("{\"code\":\"OTH\"}", getGender("OTH"), true));
+
+		Assert.assertEquals(1, entityChanges.getUnchanged());
+		Assert.assertEquals(1, entityChanges.getDeactivated());
+		Assert.assertEquals(1, entityChanges.getInserted());
+		Assert.assertEquals(0, entityChanges.getUpdated());
+	}
+
+	@Test
+	public void rowCountMismatchSavesAllRowsTest() {
+		MasterDataChangeDetector changeDetector = getChangeDetector();
+		EntityChanges entityChanges = changeDetector.track("Gender", 0);
+		entityChanges.isChanged(MALE, getGender("MLE"), true);
+		changeDetector.commit(entityChanges, 1);
+
+		entityChanges = changeDetector.track("Gender", 5);
+		Assert.assertTrue(entityChanges.isChanged(MALE, getGender("MLE"), true));
+		Assert.assertEquals(1, entityChanges.getUpdated());
+	}
+
+	@Test
+	public void uncommittedRowsNotRememberedTest() {
+		MasterDataChangeDetector changeDetector = getChangeDetector();
+		changeDetector.track("Gender", 0).isChanged(MALE, getGender("MLE"), true);
+
+		Assert.assertTrue(changeDetector.track("Gender", 0).isChanged(MALE, getGender("MLE"), true));
+	}
+
+	@Test
+	public void compositeKeyRowsSkippedTest() {
+		String poa = "{\"docTypeCode\":\"RNT\",\"docCategoryCode\":\"POA\",\"isActive\":true}";
+		String poi = "{\"docTypeCode\":\"RNT\",\"docCategoryCode\":\"POI\",\"isActive\":true}";
+		// a new id instance for each row, without toString, equals and hashCode
+		Function<Object, Object> identifier = entity -> {
+			ValidDocumentID validDocumentID = new ValidDocumentID();
+			validDocumentID.setDocTypeCode(((ValidDocument) entity).getDocTypeCode());
+			validDocumentID.setDocCategoryCode(((ValidDocument) entity).getDocCategoryCode());
+			return validDocumentID;
+		};
+
+		MasterDataChangeDetector changeDetector = getChangeDetector(identifier);
+		EntityChanges entityChanges = changeDetector.track("ValidDocument", 0);
+		Assert.assertTrue(entityChanges.isChanged(poa, getValidDocument("POA"), true));
+		Assert.assertTrue(entityChanges.isChanged(poi, getValidDocument("POI"), true));
+		changeDetector.commit(entityChanges, 2);
+		changeDetector.save();
+
+		changeDetector = getChangeDetector(identifier);
+		entityChanges = changeDetector.track("ValidDocument", 2);
+		Assert.assertFalse(entityChanges.isChanged(poa, getValidDocument("POA"), true));
+		Assert.assertFalse(entityChanges.isChanged(poi, getValidDocument("POI"), true));
+		Assert.assertEquals(2, entityChanges.getUnchanged());
+	}
+
+	@Test
+	public void rowsNotSyncedForgottenTest() {
+		MasterDataChangeDetector changeDetector = getChangeDetector();
+		EntityChanges entityChanges = changeDetector.track("Gender", 0);
+		entityChanges.isChanged(MALE, getGender("MLE"), true);
+		entityChanges.isChanged(FEMALE, getGender("FLE"), true);
+		changeDetector.commit(entityChanges, 2);
+
+		entityChanges = changeDetector.track("Gender", 2);
+		Assert.assertFalse(entityChanges.isChanged(MALE, getGender("MLE"), true));
+		changeDetector.commit(entityChanges, 2);
+
+		entityChanges = changeDetector.track("Gender", 2);
+		Assert.assertFalse(entityChanges.isChanged(MALE, getGender("MLE"), true));
+		Assert.assertTrue(entityChanges.isChanged(FEMALE, getGender("FLE"), true));
+		Assert.assertEquals(1, entityChanges.getInserted());
+	}
+
+	private MasterDataChangeDetector getChangeDetector() {
+		return getChangeDetector(entity -> ((Gender) entity).getCode());
+	}
+
+	private MasterDataChangeDetector getChangeDetector(Function<Object, Object> identifier) {
+		PersistenceUnitUtil persistenceUnitUtil = Mockito.mock(PersistenceUnitUtil.class);
+		Mockito.when(persistenceUnitUtil.getIdentifier(Mockito.any()))
+				.thenAnswer(invocation -> identifier.apply(invocation.getArgument(0)));
+		EntityManagerFactory entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+		Mockito.when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+
+		MasterDataChangeDetector changeDetector = new MasterDataChangeDetector();
+		ReflectionTestUtils.setField(changeDetector, "enabled", true);
+		ReflectionTestUtils.setField(changeDetector, "rowHashFile", rowHashFile);
+		ReflectionTestUtils.setField(changeDetector, "entityManagerFactory", entityManagerFactory);
+		return changeDetector;
+	}
+
+	private ValidDocument getValidDocument(String docCategoryCode) {
+		ValidDocument validDocument = new ValidDocument();
+		validDocument.setDocTypeCode("RNT");
+		validDocument.setDocCategoryCode(docCategoryCode);
+		return validDocument;
+	}
+
+	private Gender getGender(String code) {
+		Gender gender = new Gender();
+		gender.setCode(code);
+		return gender;
+	}
+}
@@ -1,6 +1,7 @@
 package io.mosip.registration.test.validator;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -88,6 +90,102 @@ public class RegIdObjectMasterDataValidatorTest {
 				IdObjectValidatorSupportedOperations.NEW_REGISTRATION));*/
 	}
 	
+	@Test
+	public void validateIdObjectInSinglePassTest() throws Exception {
+		List<Language> langList = new ArrayList<>();
+		Language lang = new Language();
+		lang.setCode("eng");
+		langList.add(lang);
+		List<Gender> genderList = new ArrayList<>();
+		Gender gender = new Gender();
+		gender.setGenderName("Male");
+		gender.setCode("MLE");
+		gender.setLangCode("eng");
+		genderList.add(gender);
+		List<Location> locationList = new ArrayList<>();
+		Location location = new Location();
+		location.setHierarchyLevel(1);
+		location.setHierarchyName("Region");
+		location.setLangCode("eng");
+		location.setName("Rabat Sale Kenitra");
+		location.setCode("RSK");
+		locationList.add(location);
+		Mockito.when(masterSyncDao.getActiveLanguages()).thenReturn(langList);
+		Mockito.when(masterSyncDao.getGenders()).thenReturn(genderList);
+		Mockito.when(masterSyncDao.getDocumentCategory()).thenReturn(new ArrayList<>());
+		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(locationList);
+		ReflectionTestUtils.setField(regIdObjectMasterDataValidator, "mapper", new ObjectMapper());
+		regIdObjectMasterDataValidator.loadData();
+
+		String identityString = "{\"identity\":{\"IDSchemaVersion\":1.0,\"fullName\":[{\"language\":\"eng\",\"value\":\"Ibrahim Ibn Ali\"}],\"gender\":[{\"language\":\"eng\",\"value\":\"Male\"}],\"region\":[{\"language\":\"eng\",\"value\":\"Rabat Sale Kenitra\"}],\"proofOfAddress\":{\"format\":\"pdf\",\"type\":\"Ration Card\",\"value\":\"fileReferenceID\"}}}";
+		assertTrue(regIdObjectMasterDataValidator.validateIdObject(
+				new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8), Object.class)));
+
+		String invalidIdentityString = identityString.replace("\"language\":\"eng\",\"value\":\"Ibrahim", "\"language\":\"fra\",\"value\":\"Ibrahim")
+				.replace("Male", "Female").replace("Rabat Sale Kenitra", "Kenitra");
+		try {
+			regIdObjectMasterDataValidator.validateIdObject(
+					new ObjectMapper().readValue(invalidIdentityString.getBytes(StandardCharsets.UTF_8), Object.class));
+			fail();
+		} catch (IdObjectValidationFailedException exception) {
+			// invalid language, gender and region
+		}
+	}
+
+	@Test
+	public void loadDocumentTypesInBulkTest() throws Exception {
+		List<Language> langList = new ArrayList<>();
+		Language lang = new Language();
+		lang.setCode("eng");
+		langList.add(lang);
+		List<DocumentCategory> docList = new ArrayList<>();
+		DocumentCategory documentCategory = new DocumentCategory();
+		documentCategory.setLangCode("eng");
+		documentCategory.setCode("POI");
+		docList.add(documentCategory);
+		List<ValidDocument> masterValidDocuments = new ArrayList<>();
+		ValidDocument validDocument = new ValidDocument();
+		validDocument.setDocCategoryCode("POI");
+		validDocument.setDocTypeCode("DOC001");
+		masterValidDocuments.add(validDocument);
+		List<DocumentType> masterDocuments = new ArrayList<>();
+		DocumentType documentType = new DocumentType();
+		documentType.setCode("DOC001");
+		documentType.setLangCode("eng");
+		masterDocuments.add(documentType);
+		Mockito.when(masterSyncDao.getActiveLanguages()).thenReturn(langList);
+		Mockito.when(masterSyncDao.getDocumentCategory()).thenReturn(docList);
+		Mockito.when(masterSyncDao.getValidDocuments()).thenReturn(masterValidDocuments);
+		Mockito.when(masterSyncDao.getDocumentTypes()).thenReturn(masterDocuments);
+		ReflectionTestUtils.setField(regIdObjectMasterDataValidator, "mapper", new ObjectMapper());
+		regIdObjectMasterDataValidator.loadData();
+
+		Mockito.verify(masterSyncDao, Mockito.never()).getValidDocumets(Mockito.any());
+		Mockito.verify(masterSyncDao, Mockito.never()).getDocumentTypes(Mockito.any(), Mockito.any());
+
+		String identityString = "{\"identity\":{\"proofOfIdentity\":{\"format\":\"pdf\",\"type\":\"DOC001\",\"value\":\"fileReferenceID\"}}}";
+		assertTrue(regIdObjectMasterDataValidator.validateIdObject(
+				new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8), Object.class)));
+
+		// the refreshed data is swapped in once it is built
+		validDocument.setDocTypeCode("DOC002");
+		documentType.setCode("DOC002");
+		regIdObjectMasterDataValidator.refresh();
+		Mockito.verify(masterSyncDao, Mockito.timeout(5000).times(2)).getDocumentTypes();
+		String refreshedIdentityString = identityString.replace("DOC001", "DOC002");
+		for (int attempt = 0; attempt < 50; attempt++) {
+			try {
+				regIdObjectMasterDataValidator.validateIdObject(new ObjectMapper()
+						.readValue(refreshedIdentityString.getBytes(StandardCharsets.UTF_8), Object.class));
+				break;
+			} catch (IdObjectValidationFailedException exception) {
+				Thread.sleep(100);
+			}
+		}
+		assertTrue(regIdObjectMasterDataValidator.validateIdObject(
+				new ObjectMapper().readValue(refreshedIdentityString.getBytes(StandardCharsets.UTF_8), Object.class)));
+	}
+
 	/*@Test(expected = IdObjectValidationFailedException.class)
 	public void validateIdObjectTestException() throws Exception {
 		